@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -27,6 +28,8 @@ dependencies {
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
 
     testImplementation(libs.spring.boot.starter.test)
     testImplementation("org.mockito:mockito-core:3.+")
@@ -35,11 +38,11 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -52,5 +55,62 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark tests tagged with @Tag(\"benchmark\")."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    systemProperty("benchmark.maxRows", System.getProperty("benchmark.maxRows") ?: "10000000")
+    testLogging.showStandardStreams = true
+}
+
+// micro benchmarks (src/jmh), results: build/reports/jmh/results.json
+// ./gradlew jmh -Pjmh.includes=PointServiceBenchmark -Pjmh.threads=8 -Pjmh.params="distribution=ZIPF;table=ZERO_LATENCY"
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider().get())
+    includes.set(listOf(findProperty("jmh.includes")?.toString() ?: ".*"))
+    threads.set(findProperty("jmh.threads")?.toString()?.toInt() ?: 4)
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    findProperty("jmh.profilers")?.toString()?.let { profilers.set(it.split(",")) }
+    findProperty("jmh.params")?.toString()?.split(";")?.filter { it.isNotBlank() }?.forEach { param ->
+        val (name, values) = param.split("=", limit = 2)
+        benchmarkParameters.put(name, project.objects.listProperty(String::class.java).value(values.split(",")))
+    }
+}
+
+// HTTP load test (src/loadTest), reports: build/reports/load/*.hgrm
+// ./gradlew loadTest -Dload.rate=1000 -Dload.distribution=ZIPF --args="--point-execution.mode=sharded"
+val loadTest: SourceSet by sourceSets.creating {
+    // shares benchmark support classes (e.g. UserIdDistribution) with the jmh source set
+    compileClasspath += sourceSets.main.get().output + sourceSets["jmh"].output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets["jmh"].output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadTestImplementation"(libs.hdrhistogram)
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Starts the application on a random port and drives open-loop HTTP load against it."
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadTest")
+    workingDir = projectDir
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("load.") }
+        .forEach { systemProperty(it, System.getProperty(it)) }
 }
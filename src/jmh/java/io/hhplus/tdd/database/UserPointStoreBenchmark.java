@@ -0,0 +1,81 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 포인트 저장 구조 비교 벤치마크<br>
+ * 테이블의 지연(throttle) 없이 저장 구조의 비용만 측정합니다. 테이블 교체의 효과는 지연이 같은 테이블끼리
+ * PointServiceBenchmark(table=REAL, CONCURRENT)로 따로 측정합니다.<br>
+ * - SYNCHRONIZED_HASH_MAP : Collections.synchronizedMap으로 감싼 HashMap (UserPointTable은 HashMap을 동기화 없이 사용하므로,
+ *   동시 쓰기에서 안전한 기준선이 되도록 전역 락을 추가한 것이며 UserPointTable 자체의 성능은 아님)<br>
+ * - CONCURRENT_HASH_MAP : 박싱된 키와 UserPoint 객체를 저장하는 ConcurrentHashMap<br>
+ * - PRIMITIVE : ConcurrentUserPointStore<br>
+ * 할당량은 -Pjmh.profilers=gc 또는 JMH의 -prof gc 로 함께 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserPointStoreBenchmark {
+
+    public enum StoreType {
+        SYNCHRONIZED_HASH_MAP, CONCURRENT_HASH_MAP, PRIMITIVE
+    }
+
+    @Param({"SYNCHRONIZED_HASH_MAP", "CONCURRENT_HASH_MAP", "PRIMITIVE"})
+    private StoreType store;
+
+    @Param({"1000000"})
+    private int userCount;
+
+    private Map<Long, UserPoint> map;
+    private ConcurrentUserPointStore primitiveStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (store) {
+            case SYNCHRONIZED_HASH_MAP -> map = Collections.synchronizedMap(new HashMap<>());
+            case CONCURRENT_HASH_MAP -> map = new ConcurrentHashMap<>();
+            case PRIMITIVE -> primitiveStore = new ConcurrentUserPointStore(64, userCount);
+        }
+        for (long userId = 1; userId <= userCount; userId++) {
+            put(userId, userId);
+        }
+    }
+
+    @Benchmark
+    public UserPoint get() {
+        long userId = ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+        return primitiveStore != null ? primitiveStore.get(userId) : map.get(userId);
+    }
+
+    @Benchmark
+    public void put() {
+        long userId = ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+        put(userId, userId + 1);
+    }
+
+    private void put(long userId, long point) {
+        long updateMillis = System.currentTimeMillis();
+        if (primitiveStore != null) {
+            primitiveStore.put(userId, point, updateMillis);
+        } else {
+            map.put(userId, new UserPoint(userId, point, updateMillis));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 저널의 동기화 정책별 처리량 벤치마크<br>
+ * 기록 추가 후 디스크 동기화까지 기다린 시점을 한 건의 완료로 봅니다.<br>
+ * ALWAYS 정책은 스레드 수를 늘릴수록 한 번의 동기화에 묶이는 기록이 많아지므로 -Pjmh.threads 를 바꿔가며 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointJournalBenchmark {
+
+    @Param({"ALWAYS", "INTERVAL", "NONE"})
+    private JournalFsyncPolicy fsync;
+
+    private Path directory;
+    private PointJournal pointJournal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal");
+        pointJournal = new PointJournal(new PointJournalPolicy(true, directory.resolve("point-journal.dat"), fsync, Duration.ofMillis(10), DataSize.ofMegabytes(64)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pointJournal.close();
+        Files.deleteIfExists(directory.resolve("point-journal.dat"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long appendDurably() {
+        long userId = ThreadLocalRandom.current().nextLong(1, 10_000);
+        long sequence = pointJournal.append(userId, 100L, TransactionType.CHARGE, 100L, System.currentTimeMillis());
+        pointJournal.awaitDurable();
+        return sequence;
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import io.hhplus.tdd.support.TableType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소수의 유저에 충전/사용이 몰릴 때 LOCK 모드와 CAS 모드의 처리량 비교 벤치마크<br>
+ * 테이블 지연을 빼고 유저 단위 동기화 비용만 보기 위해 ZERO_LATENCY 테이블로 측정합니다.<br>
+ * 스레드 수는 -Pjmh.threads 로 바꾸고, CAS 재시도 횟수는 point.cas.retries 지표로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointContentionBenchmark {
+
+    private static final ChargeUserPointRequestDto CHARGE_REQUEST = new ChargeUserPointRequestDto(1L);
+    private static final UseUserPointRequestDto USE_REQUEST = UseUserPointRequestDto.createdBy(1L);
+
+    @Param({"LOCK", "CAS"})
+    private PointExecutionMode mode;
+
+    @Param({"1", "16"})
+    private int hotUserCount;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    /**
+     * 경합 유저를 최대 포인트의 절반으로 충전해 충전/사용이 한도에 걸리지 않도록 합니다.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(TableType.ZERO_LATENCY, mode);
+        pointService = fixture.pointService();
+
+        ChargeUserPointRequestDto seed = new ChargeUserPointRequestDto(PointServiceFixture.POINT_LIMIT.max() / 2);
+        for (long userId = 1; userId <= hotUserCount; userId++) {
+            pointService.chargeUserPoint(userId, seed);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.shutdown();
+    }
+
+    @Benchmark
+    public UserPoint chargeThenUse() {
+        long userId = ThreadLocalRandom.current().nextLong(1, hotUserCount + 1L);
+        pointService.chargeUserPoint(userId, CHARGE_REQUEST);
+        return pointService.useUserPoint(userId, USE_REQUEST);
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import io.hhplus.tdd.support.TableType;
+import io.hhplus.tdd.support.UserIdDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * PointService 충전/사용/조회 처리량 벤치마크<br>
+ * 스레드 수는 -Pjmh.threads 로, 파라미터는 -Pjmh.params=distribution=ZIPF;table=REAL 처럼 변경합니다.<br>
+ * 한도에 걸린 충전/사용도 유저 락과 조회를 거치므로 예외를 소비하고 처리량에 포함합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+
+    private static final ChargeUserPointRequestDto CHARGE_REQUEST = new ChargeUserPointRequestDto(1L);
+    private static final UseUserPointRequestDto USE_REQUEST = UseUserPointRequestDto.createdBy(1L);
+
+    @Param({"UNIFORM", "ZIPF"})
+    private UserIdDistribution distribution;
+
+    @Param({"REAL", "CONCURRENT", "ZERO_LATENCY"})
+    private TableType table;
+
+    @Param({"LOCK"})
+    private PointExecutionMode mode;
+
+    @Param({"1000"})
+    private int userCount;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+    private UserIdDistribution.Sampler userIds;
+
+    /**
+     * 모든 유저를 최대 포인트의 절반으로 충전해 등록합니다.<br>
+     * 실제 테이블은 호출마다 지연이 있으므로 가상 스레드로 나눠 충전합니다.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = new PointServiceFixture(table, mode);
+        pointService = fixture.pointService();
+        userIds = distribution.sampler(userCount);
+
+        ChargeUserPointRequestDto seed = new ChargeUserPointRequestDto(PointServiceFixture.POINT_LIMIT.max() / 2);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<UserPoint>> seeded = LongStream.rangeClosed(1, userCount)
+                .mapToObj(userId -> executor.submit(() -> pointService.chargeUserPoint(userId, seed)))
+                .toList();
+            for (Future<UserPoint> future : seeded) {
+                future.get();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.shutdown();
+    }
+
+    @Benchmark
+    public Object chargeUserPoint() {
+        try {
+            return pointService.chargeUserPoint(userIds.next(), CHARGE_REQUEST);
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object useUserPoint() {
+        try {
+            return pointService.useUserPoint(userIds.next(), USE_REQUEST);
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(userIds.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> listPointHistory() {
+        return pointService.listPointHistory(userIds.next());
+    }
+}
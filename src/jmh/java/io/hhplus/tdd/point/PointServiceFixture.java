@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.config.PointShardPolicy;
+import io.hhplus.tdd.config.UserLockPolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.lock.UserLockStrategyType;
+import io.hhplus.tdd.lock.UserLockTableType;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.shard.PointShardEngine;
+import io.hhplus.tdd.support.TableType;
+import io.hhplus.tdd.user.UserRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 스프링 컨텍스트 없이 application.yml 기본값으로 PointService를 구성합니다.
+ */
+public class PointServiceFixture {
+
+    public static final PointLimit POINT_LIMIT = new PointLimit(100_000L, 0L);
+    public static final PointJournalPolicy JOURNAL_DISABLED = new PointJournalPolicy(false, null, JournalFsyncPolicy.NONE, Duration.ZERO, DataSize.ofMegabytes(64));
+
+    private final PointService pointService;
+    private final PointHistoryAppender pointHistoryAppender;
+    private final PointShardEngine pointShardEngine;
+
+    public PointServiceFixture(TableType tableType, PointExecutionMode mode) {
+        PointExecution pointExecution = new PointExecution(mode);
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(tableType.newPointHistoryTable());
+        UserPointCachePolicy userPointCachePolicy = new UserPointCachePolicy(100_000);
+        UserPointCache userPointCache = new UserPointCache(tableType.newUserPointTable(), userPointCachePolicy, pointMetrics);
+        PointLimitChecker pointLimitChecker = new PointLimitChecker(POINT_LIMIT, pointMetrics);
+        UserRegistry userRegistry = new UserRegistry(pointHistoryIndex);
+        PointJournal pointJournal = new PointJournal(JOURNAL_DISABLED);
+
+        this.pointHistoryAppender = new PointHistoryAppender(pointHistoryIndex, new PointHistoryBuffer(8, 10_000), pointMetrics);
+        this.pointShardEngine = new PointShardEngine(pointExecution, new PointShardPolicy(0), pointMetrics);
+        this.pointService = new PointService(
+            userPointCache,
+            pointHistoryIndex,
+            pointLimitChecker,
+            new UserLockManager(new UserLockPolicy(UserLockTableType.REF_COUNTED, 1024, UserLockStrategyType.FAIR), pointMetrics),
+            pointHistoryAppender,
+            userRegistry,
+            new PointCombiner(pointExecution),
+            pointShardEngine,
+            pointJournal,
+            new PointCasEngine(pointExecution, userPointCache, pointLimitChecker, pointHistoryAppender, pointJournal, userRegistry, pointMetrics, userPointCachePolicy)
+        );
+    }
+
+    public PointService pointService() {
+        return pointService;
+    }
+
+    public void shutdown() {
+        pointHistoryAppender.shutdown();
+        pointShardEngine.shutdown();
+    }
+}
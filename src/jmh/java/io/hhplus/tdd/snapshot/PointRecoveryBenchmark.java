@@ -0,0 +1,137 @@
+package io.hhplus.tdd.snapshot;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointSnapshotPolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.journal.PointJournalRecovery;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.support.TableType;
+import io.hhplus.tdd.user.UserRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 복구 시간 벤치마크<br>
+ * - JOURNAL : 스냅샷 없이 저널 전체로 포인트와 히스토리 복구<br>
+ * - SNAPSHOT : 저널의 마지막 1% 앞에서 찍은 스냅샷으로 포인트 복구 + 저널 전체로 히스토리 복구<br>
+ * 히스토리는 두 경우 모두 저널 전체로 복구하므로, 차이는 포인트 복구에서 유저별 마지막 기록을 보관하는 비용입니다.<br>
+ * 스냅샷은 concurrent 유저 포인트 저장소에서만 사용하고, 복구는 저장소에 지연 없이 쓰므로 CONCURRENT 유저 포인트 테이블과 ZERO_LATENCY 히스토리 테이블로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointRecoveryBenchmark {
+
+    public enum RecoverySource {
+        JOURNAL, SNAPSHOT
+    }
+
+    @Param({"JOURNAL", "SNAPSHOT"})
+    private RecoverySource source;
+
+    @Param({"10000"})
+    private int userCount;
+
+    @Param({"10", "100"})
+    private int transactionsPerUser;
+
+    private Path directory;
+    private PointJournalPolicy pointJournalPolicy;
+    private PointSnapshotPolicy pointSnapshotPolicy;
+
+    private PointJournal pointJournal;
+    private PointJournalRecovery pointJournalRecovery;
+
+    @Setup(Level.Trial)
+    public void setUpFiles() throws IOException {
+        directory = Files.createTempDirectory("point-recovery");
+        pointJournalPolicy = new PointJournalPolicy(true, directory.resolve("point-journal.dat"), JournalFsyncPolicy.NONE, Duration.ofMillis(10), DataSize.ofMegabytes(64));
+        pointSnapshotPolicy = new PointSnapshotPolicy(source == RecoverySource.SNAPSHOT, directory.resolve("point-snapshot.dat"), Duration.ofMinutes(5));
+
+        long total = (long) userCount * transactionsPerUser;
+        long snapshotSequence = total - total / 100;
+        long[] balances = new long[userCount];
+        long[] entries = new long[userCount * 3];
+
+        PointJournal writer = new PointJournal(pointJournalPolicy);
+        for (long sequence = 1; sequence <= total; sequence++) {
+            int user = (int) (sequence % userCount);
+            balances[user] += 10L;
+            writer.append(user + 1L, 10L, TransactionType.CHARGE, balances[user], sequence);
+
+            if (sequence == snapshotSequence) {
+                for (int i = 0; i < userCount; i++) {
+                    entries[i * 3] = i + 1L;
+                    entries[i * 3 + 1] = balances[i];
+                    entries[i * 3 + 2] = sequence;
+                }
+            }
+        }
+        writer.close();
+
+        if (source == RecoverySource.SNAPSHOT) {
+            PointSnapshotFile.write(pointSnapshotPolicy.path(), snapshotSequence, entries);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpRecovery() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(TableType.ZERO_LATENCY.newPointHistoryTable());
+        UserRegistry userRegistry = new UserRegistry(pointHistoryIndex);
+
+        UserPointTable userPointTable = TableType.CONCURRENT.newUserPointTable();
+
+        pointJournal = new PointJournal(pointJournalPolicy);
+        pointJournalRecovery = new PointJournalRecovery(
+            pointJournal,
+            new PointSnapshotter(pointSnapshotPolicy, pointJournal, userPointTable),
+            new UserPointCache(userPointTable, new UserPointCachePolicy(userCount), pointMetrics),
+            pointHistoryIndex,
+            userRegistry
+        );
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownRecovery() {
+        pointJournal.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        return pointJournalRecovery.recover();
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.support;
+
+import io.hhplus.tdd.config.PointHistoryStorePolicy;
+import io.hhplus.tdd.config.PointHistoryStorePolicy.ColumnStorage;
+import io.hhplus.tdd.config.PointHistoryStorePolicy.StoreType;
+import io.hhplus.tdd.config.UserPointStorePolicy;
+import io.hhplus.tdd.database.ColumnarPointHistoryTable;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.ZeroLatencyPointHistoryTable;
+import io.hhplus.tdd.database.ZeroLatencyUserPointTable;
+
+/**
+ * 벤치마크에서 사용할 테이블 구현
+ * - REAL : 지연이 있는 실제 테이블
+ * - CONCURRENT : 실제 테이블과 지연이 같은 대체 저장소 (ConcurrentUserPointTable, ColumnarPointHistoryTable)
+ * - ZERO_LATENCY : 지연이 없는 대체 테이블
+ */
+public enum TableType {
+    REAL, CONCURRENT, ZERO_LATENCY;
+
+    public UserPointTable newUserPointTable() {
+        return switch (this) {
+            case REAL -> new UserPointTable();
+            case CONCURRENT -> new ConcurrentUserPointTable(new UserPointStorePolicy(UserPointStorePolicy.StoreType.CONCURRENT, 64));
+            case ZERO_LATENCY -> new ZeroLatencyUserPointTable();
+        };
+    }
+
+    public PointHistoryTable newPointHistoryTable() {
+        return switch (this) {
+            case REAL -> new PointHistoryTable();
+            case CONCURRENT -> new ColumnarPointHistoryTable(new PointHistoryStorePolicy(StoreType.COLUMNAR, ColumnStorage.HEAP));
+            case ZERO_LATENCY -> new ZeroLatencyPointHistoryTable();
+        };
+    }
+}
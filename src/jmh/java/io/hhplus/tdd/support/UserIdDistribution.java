@@ -0,0 +1,43 @@
+package io.hhplus.tdd.support;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 요청의 유저 ID 분포
+ * - UNIFORM : 모든 유저가 같은 확률
+ * - ZIPF : 순위 k 유저의 확률이 1/k^s 에 비례 (소수의 유저에 요청이 몰림)
+ */
+public enum UserIdDistribution {
+    UNIFORM, ZIPF;
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    /**
+     * @param userCount 유저 수 (유저 ID는 1 ~ userCount)
+     * @return 스레드 간에 공유할 수 있는 유저 ID 생성기
+     */
+    public Sampler sampler(int userCount) {
+        if (this == UNIFORM) {
+            return () -> ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+        }
+
+        double[] cumulative = new double[userCount];
+        double sum = 0;
+        for (int rank = 1; rank <= userCount; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        double total = sum;
+        return () -> {
+            double target = ThreadLocalRandom.current().nextDouble() * total;
+            int index = Arrays.binarySearch(cumulative, target);
+            return (index >= 0 ? index : -index - 1) + 1L;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Sampler {
+        long next();
+    }
+}
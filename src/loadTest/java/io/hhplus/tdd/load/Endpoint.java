@@ -0,0 +1,27 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ */
+enum Endpoint {
+    CHARGE, USE, POINT, HISTORIES;
+
+    HttpRequest request(URI baseUri, long userId) {
+        return switch (this) {
+            case CHARGE -> patch(baseUri.resolve("/point/" + userId + "/charge"), "{\"amount\":10}");
+            case USE -> patch(baseUri.resolve("/point/" + userId + "/use"), "{\"amount\":10}");
+            case POINT -> HttpRequest.newBuilder(baseUri.resolve("/point/" + userId)).GET().build();
+            case HISTORIES -> HttpRequest.newBuilder(baseUri.resolve("/point/" + userId + "/histories")).GET().build();
+        };
+    }
+
+    private static HttpRequest patch(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+}
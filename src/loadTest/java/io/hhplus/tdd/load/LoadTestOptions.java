@@ -0,0 +1,50 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.support.UserIdDistribution;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dload.* 시스템 프로퍼티)
+ * - load.rate : 초당 요청 수 (응답과 무관하게 일정한 간격으로 요청, open-loop)
+ * - load.duration : 측정 시간 (초)
+ * - load.warmup : 측정 전 예열 시간 (초)
+ * - load.users : 유저 수 (유저 ID는 1 ~ users)
+ * - load.distribution : UNIFORM 또는 ZIPF
+ * - load.mix : 엔드포인트별 요청 비율 (예: charge=40,use=30,point=20,histories=10)
+ * - load.report : 엔드포인트별 .hgrm 리포트를 저장할 디렉토리
+ */
+record LoadTestOptions(
+    int rate,
+    Duration duration,
+    Duration warmup,
+    int users,
+    UserIdDistribution distribution,
+    Map<Endpoint, Integer> mix,
+    Path reportDirectory
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+            Integer.getInteger("load.rate", 500),
+            Duration.ofSeconds(Integer.getInteger("load.duration", 30)),
+            Duration.ofSeconds(Integer.getInteger("load.warmup", 5)),
+            Integer.getInteger("load.users", 1000),
+            UserIdDistribution.valueOf(System.getProperty("load.distribution", "ZIPF").toUpperCase()),
+            parseMix(System.getProperty("load.mix", "charge=40,use=30,point=20,histories=10")),
+            Path.of(System.getProperty("load.report", "build/reports/load"))
+        );
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.support.UserIdDistribution;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 임의 포트로 띄우고 엔드포인트를 섞어서 open-loop 부하를 보냅니다.<br>
+ * 1. 모든 유저를 한 번씩 충전해 등록<br>
+ * 2. 예열 시간 동안 부하를 보내고 결과는 버림<br>
+ * 3. 측정 시간 동안 load.rate 간격으로 요청 (응답을 기다리지 않음)<br>
+ * 4. 지연 시간은 요청을 보냈어야 할 시각부터 응답까지로 기록 (coordinated omission 보정)<br>
+ * 5. 엔드포인트별 백분위 출력 및 .hgrm 리포트 저장<br>
+ * 프로그램 인자는 애플리케이션에 그대로 전달됩니다. (예: --point-execution.mode=sharded)
+ */
+public class PointLoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final UserIdDistribution.Sampler userIds;
+    private final Endpoint[] weightedEndpoints;
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+
+    PointLoadTest(LoadTestOptions options, URI baseUri, ExecutorService executor) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(executor)
+            .build();
+        this.userIds = options.distribution().sampler(options.users());
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        options.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                endpoints.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = endpoints.toArray(Endpoint[]::new);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        String[] applicationArgs = new String[args.length + 1];
+        System.arraycopy(args, 0, applicationArgs, 0, args.length);
+        applicationArgs[args.length] = "--server.port=0";
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class, applicationArgs);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            PointLoadTest loadTest = new PointLoadTest(options, URI.create("http://localhost:" + port), executor);
+
+            loadTest.seedUsers();
+            loadTest.run(options.warmup());
+            loadTest.reset();
+            loadTest.run(options.duration());
+            loadTest.report();
+        }
+    }
+
+    private void seedUsers() {
+        List<CompletableFuture<HttpResponse<Void>>> seeded = new ArrayList<>();
+        for (long userId = 1; userId <= options.users(); userId++) {
+            seeded.add(httpClient.sendAsync(Endpoint.CHARGE.request(baseUri, userId), HttpResponse.BodyHandlers.discarding()));
+        }
+        CompletableFuture.allOf(seeded.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void run(Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long requestCount = duration.toNanos() / intervalNanos;
+        long startNanos = System.nanoTime();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        for (long i = 0; i < requestCount; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+            inFlight.add(httpClient.sendAsync(endpoint.request(baseUri, userIds.next()), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, ex) -> {
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+                    histograms.get(endpoint).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                    if (ex != null || response.statusCode() >= 400) {
+                        errors.get(endpoint).incrementAndGet();
+                    }
+                }));
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+            .exceptionally(ex -> null)
+            .join();
+    }
+
+    private void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(error -> error.set(0));
+    }
+
+    private void report() throws IOException {
+        Files.createDirectories(options.reportDirectory());
+        System.out.printf("rate=%d/s duration=%ds users=%d distribution=%s%n",
+            options.rate(), options.duration().toSeconds(), options.users(), options.distribution());
+        System.out.printf("%-10s %8s %8s %10s %10s %10s %10s %10s%n",
+            "endpoint", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            System.out.printf("%-10s %8d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                endpoint, histogram.getTotalCount(), errors.get(endpoint).get(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                options.reportDirectory().resolve(endpoint.name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
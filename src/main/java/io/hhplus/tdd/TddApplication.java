@@ -1,12 +1,28 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.config.PointAsyncPolicy;
+import io.hhplus.tdd.config.PointBatchPolicy;
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.config.PointHistoryStorePolicy;
+import io.hhplus.tdd.config.PointIdempotencyPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
 import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.config.PointReconcilePolicy;
+import io.hhplus.tdd.config.PointShardPolicy;
+import io.hhplus.tdd.config.PointSnapshotPolicy;
+import io.hhplus.tdd.config.UserLockPolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.config.UserPointStorePolicy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(PointLimit.class)
+@EnableConfigurationProperties({PointLimit.class, PointHistoryBuffer.class, UserPointCachePolicy.class, PointBatchPolicy.class, PointExecution.class, UserLockPolicy.class,
+    PointAsyncPolicy.class, PointShardPolicy.class, PointHistoryStorePolicy.class,
+    UserPointStorePolicy.class, PointJournalPolicy.class, PointSnapshotPolicy.class,
+    PointReconcilePolicy.class, PointIdempotencyPolicy.class})
 public class TddApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.admin;
+
+import io.hhplus.tdd.lock.LockContentionReport;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.reconcile.PointReconciler;
+import io.hhplus.tdd.reconcile.ReconcileStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 진단용 API
+ */
+@RestController
+@RequestMapping("/admin")
+@AllArgsConstructor
+@Validated
+public class AdminController {
+
+    private final UserLockManager userLockManager;
+    private final PointReconciler pointReconciler;
+
+    /**
+     * 락 경합이 심한 유저 조회
+     * @param limit 순위별 최대 유저 수
+     * @return 대기 스레드 수 순, 최근 대기 시간 순 유저 목록
+     */
+    @GetMapping("locks/contention")
+    public LockContentionReport lockContention(
+        @RequestParam(defaultValue = "10")
+        @Positive(message = "조회 개수는 양수여야 합니다.")
+        @Max(value = 100, message = "조회 개수는 100 이하여야 합니다.") int limit
+    ) {
+        return userLockManager.contention(limit);
+    }
+
+    /**
+     * 포인트 정합성 검사 시작<br>
+     * 검사는 별도 스레드에서 실행하고, 요청은 검사를 기다리지 않고 202 Accepted로 바로 응답합니다.
+     * @param repair 불일치 유저의 포인트를 히스토리 기준으로 복구할지 여부
+     * @return 시작한 검사의 상태
+     */
+    @PostMapping("reconcile")
+    public ResponseEntity<ReconcileStatus> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.accepted().body(pointReconciler.start(repair));
+    }
+
+    /**
+     * 포인트 정합성 검사 상태 조회
+     * @return 진행 중이거나 마지막으로 실행한 검사의 상태와 결과
+     */
+    @GetMapping("reconcile")
+    public ReconcileStatus reconcileStatus() {
+        return pointReconciler.status();
+    }
+}
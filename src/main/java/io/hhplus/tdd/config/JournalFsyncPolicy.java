@@ -0,0 +1,11 @@
+package io.hhplus.tdd.config;
+
+/**
+ * 포인트 저널 디스크 동기화 정책
+ * - ALWAYS : 응답 전에 디스크 동기화 (대기 중인 기록을 모아서 한 번에 동기화)
+ * - INTERVAL : 일정 주기로 동기화 (장애 시 마지막 주기의 기록은 유실될 수 있음)
+ * - NONE : 운영체제에 맡김
+ */
+public enum JournalFsyncPolicy {
+    ALWAYS, INTERVAL, NONE
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 포인트 비동기 처리 설정
+ * - timeout : 조회 요청별 최대 처리 시간 (초과 시 503 응답, 충전/사용은 시간 제한 없이 반영 결과를 응답)
+ */
+@ConfigurationProperties(prefix = "point-async")
+public record PointAsyncPolicy(Duration timeout) {
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 일괄 처리 설정
+ * - parallelism : 서로 다른 유저의 작업을 동시에 처리할 스레드 수
+ */
+@ConfigurationProperties(prefix = "point-batch")
+public record PointBatchPolicy(int parallelism) {
+}
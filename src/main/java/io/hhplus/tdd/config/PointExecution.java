@@ -0,0 +1,11 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 충전/사용 실행 설정
+ * - mode : 실행 방식
+ */
+@ConfigurationProperties(prefix = "point-execution")
+public record PointExecution(PointExecutionMode mode) {
+}
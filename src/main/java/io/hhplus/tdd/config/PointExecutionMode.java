@@ -0,0 +1,12 @@
+package io.hhplus.tdd.config;
+
+/**
+ * 포인트 충전/사용 실행 방식
+ * - LOCK : 요청마다 유저 락을 획득한 후 처리
+ * - COMBINING : 유저 락을 획득한 스레드가 대기 중인 같은 유저의 요청을 모아서 한 번에 처리
+ * - SHARDED : 유저 ID로 정해진 샤드의 단일 스레드에서 락 없이 순서대로 처리
+ * - CAS : 유저별 원자적 셀을 compareAndSet으로 락 없이 갱신
+ */
+public enum PointExecutionMode {
+    LOCK, COMBINING, SHARDED, CAS
+}
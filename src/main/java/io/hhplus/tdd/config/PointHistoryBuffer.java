@@ -0,0 +1,12 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 히스토리 비동기 추가 설정
+ * - workers : 히스토리를 테이블에 기록하는 워커 스레드 수
+ * - capacity : 기록 대기 중인 히스토리 최대 개수 (가득 차면 충전/사용 요청이 유저 락을 잡기 전에 대기)
+ */
+@ConfigurationProperties(prefix = "point-history-buffer")
+public record PointHistoryBuffer(int workers, int capacity) {
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 포인트 히스토리 저장소 설정
+ * - type : columnar (ColumnarPointHistoryTable, 기본값), table (PointHistoryTable)
+ * - storage : columnar 저장 위치 (heap, off_heap)
+ */
+@ConfigurationProperties(prefix = "point-history-store")
+public record PointHistoryStorePolicy(StoreType type, ColumnStorage storage) {
+
+    public enum StoreType {
+        COLUMNAR, TABLE
+    }
+
+    public enum ColumnStorage {
+        HEAP, OFF_HEAP
+    }
+
+    /**
+     * point-history-store.type 이 COLUMNAR(설정이 없으면 COLUMNAR)일 때만 ColumnarPointHistoryTable을 등록합니다.<br>
+     * 설정 값을 StoreType으로 바인딩하므로, 잘못된 값이면 시작할 때 실패합니다.
+     */
+    public static class ColumnarCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return Binder.get(context.getEnvironment())
+                .bind("point-history-store.type", StoreType.class)
+                .orElse(StoreType.COLUMNAR) == StoreType.COLUMNAR;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 멱등성 키 결과 캐시 설정
+ * - maximumSize : 보관할 최대 결과 수 (초과 시 처리가 끝난 가장 오래된 결과부터 제거, 처리 중인 요청으로 가득 차면 새 요청 거절)
+ * - ttl : 처리가 끝난 결과를 보관하는 시간
+ */
+@ConfigurationProperties(prefix = "point-idempotency")
+public record PointIdempotencyPolicy(int maximumSize, Duration ttl) {
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 저널 설정
+ * - enabled : 저널 사용 여부
+ * - path : 저널 파일 경로
+ * - fsync : 디스크 동기화 정책
+ * - fsyncInterval : INTERVAL 정책의 동기화 주기
+ * - chunkSize : 한 번에 메모리 매핑하는 파일 크기
+ */
+@ConfigurationProperties(prefix = "point-journal")
+public record PointJournalPolicy(
+    boolean enabled,
+    Path path,
+    JournalFsyncPolicy fsync,
+    Duration fsyncInterval,
+    DataSize chunkSize
+) {
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * 포인트 정합성 검사 설정
+ * - parallelism : fork-join 병렬 수준, 0 이하이면 사용 가능한 코어 수
+ * - threshold : 더 나누지 않고 한 작업에서 검사할 최대 유저 수
+ * - checkpoint-path : 체크포인트 파일 경로 (포인트 저널을 사용할 때만 저장, 없으면 저장하지 않음)
+ */
+@ConfigurationProperties(prefix = "point-reconcile")
+public record PointReconcilePolicy(int parallelism, int threshold, Path checkpointPath) {
+
+    public int parallelismLevel() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
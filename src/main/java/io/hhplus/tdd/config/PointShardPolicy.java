@@ -0,0 +1,19 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SHARDED 실행 방식의 샤드 설정
+ * - shards : 샤드(단일 스레드 실행기) 수, 0 이하이면 사용 가능한 코어 수 * SHARDS_PER_CORE<br>
+ * 샤드 스레드는 테이블 I/O(수백 ms)를 기다리는 시간이 대부분이므로, 코어마다 여러 샤드를 두어
+ * 느린 쓰기 하나가 같은 샤드의 다른 유저를 막는 범위를 줄입니다.
+ */
+@ConfigurationProperties(prefix = "point-shard")
+public record PointShardPolicy(int shards) {
+
+    public static final int SHARDS_PER_CORE = 8;
+
+    public int shardCount() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors() * SHARDS_PER_CORE;
+    }
+}
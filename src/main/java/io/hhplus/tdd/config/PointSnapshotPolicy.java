@@ -0,0 +1,20 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 잔액 스냅샷 설정
+ * - enabled : 스냅샷 사용 여부 (포인트 저널과 concurrent 유저 포인트 저장소를 함께 사용할 때만 적용)
+ * - path : 스냅샷 파일 경로
+ * - interval : 스냅샷 주기
+ */
+@ConfigurationProperties(prefix = "point-snapshot")
+public record PointSnapshotPolicy(
+    boolean enabled,
+    Path path,
+    Duration interval
+) {
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.lock.UserLockStrategyType;
+import io.hhplus.tdd.lock.UserLockTableType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유저 락 설정
+ * - table : 유저 락 테이블 종류
+ * - stripes : STRIPED 테이블의 락 개수 (2의 거듭제곱으로 올림)
+ * - strategy : 유저 락 생성 전략
+ */
+@ConfigurationProperties(prefix = "user-lock")
+public record UserLockPolicy(UserLockTableType table, int stripes, UserLockStrategyType strategy) {
+}
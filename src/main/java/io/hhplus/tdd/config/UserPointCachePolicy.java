@@ -0,0 +1,11 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유저 포인트 캐시 설정
+ * - maximumSize : 캐시에 유지할 최대 유저 수 (초과 시 가장 오래 사용되지 않은 유저부터 제거, CAS 모드의 유저 셀 수에도 적용)
+ */
+@ConfigurationProperties(prefix = "user-point-cache")
+public record UserPointCachePolicy(int maximumSize) {
+}
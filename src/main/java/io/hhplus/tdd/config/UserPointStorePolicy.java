@@ -0,0 +1,34 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 유저 포인트 저장소 설정
+ * - type : concurrent (ConcurrentUserPointTable, 기본값), table (UserPointTable)
+ * - segments : concurrent 저장소의 세그먼트(쓰기 락) 수
+ */
+@ConfigurationProperties(prefix = "user-point-store")
+public record UserPointStorePolicy(StoreType type, int segments) {
+
+    public enum StoreType {
+        CONCURRENT, TABLE
+    }
+
+    /**
+     * user-point-store.type 이 CONCURRENT(설정이 없으면 CONCURRENT)일 때만 ConcurrentUserPointTable을 등록합니다.<br>
+     * 설정 값을 StoreType으로 바인딩하므로, 잘못된 값이면 시작할 때 실패합니다.
+     */
+    public static class ConcurrentCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return Binder.get(context.getEnvironment())
+                .bind("user-point-store.type", StoreType.class)
+                .orElse(StoreType.CONCURRENT) == StoreType.CONCURRENT;
+        }
+    }
+}
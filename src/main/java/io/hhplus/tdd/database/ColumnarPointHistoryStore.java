@@ -0,0 +1,187 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.PointHistoryStorePolicy.ColumnStorage;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리를 컬럼별 원시 타입 배열로 저장합니다.<br>
+ * 행마다 객체를 만들지 않고 id, userId, amount, updateMillis는 long, 트랜잭션 종류는 byte로 보관하므로 행당 33 바이트만 사용합니다.<br>
+ * 행은 고정 크기 세그먼트 단위로 늘어나고, PointHistory는 조회할 때만 만듭니다.<br>
+ * 추가는 한 번에 한 스레드만 하고, 조회는 락 없이 공개된(size 이전) 행만 읽습니다.
+ */
+public class ColumnarPointHistoryStore {
+
+    static final int SEGMENT_SHIFT = 16;
+    static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_ROWS - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ColumnStorage storage;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile Segment[] segments = new Segment[16];
+    private volatile long size;
+
+    public ColumnarPointHistoryStore(ColumnStorage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * 히스토리 추가<br>
+     * 히스토리 ID는 1부터 순서대로 부여하며, 행 번호 + 1 입니다.
+     * @return 추가된 히스토리
+     */
+    public PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            long row = size;
+            int segmentIndex = (int) (row >>> SEGMENT_SHIFT);
+
+            Segment[] current = segments;
+            if (segmentIndex == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            if (current[segmentIndex] == null) {
+                current[segmentIndex] = storage == ColumnStorage.OFF_HEAP ? new DirectSegment() : new HeapSegment();
+            }
+            segments = current;
+
+            long id = row + 1;
+            current[segmentIndex].set((int) (row & SEGMENT_MASK), id, userId, amount, (byte) type.ordinal(), updateMillis);
+            // 행을 모두 쓴 후에 공개
+            size = row + 1;
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * @param id 히스토리 ID
+     * @return 히스토리, 없으면 null
+     */
+    public PointHistory selectById(long id) {
+        long row = id - 1;
+        if (row < 0 || row >= size) {
+            return null;
+        }
+        return segments[(int) (row >>> SEGMENT_SHIFT)].get((int) (row & SEGMENT_MASK));
+    }
+
+    /**
+     * 전체 행 중 해당 유저의 행만 PointHistory로 만듭니다.
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        long rows = size;
+        Segment[] current = segments;
+        List<PointHistory> result = new ArrayList<>();
+        for (long row = 0; row < rows; row++) {
+            Segment segment = current[(int) (row >>> SEGMENT_SHIFT)];
+            int offset = (int) (row & SEGMENT_MASK);
+            if (segment.userId(offset) == userId) {
+                result.add(segment.get(offset));
+            }
+        }
+        return result;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return 할당된 세그먼트의 바이트 수 (힙 또는 다이렉트 메모리)
+     */
+    public long allocatedBytes() {
+        long allocated = 0;
+        for (Segment segment : segments) {
+            if (segment != null) {
+                allocated += (long) SEGMENT_ROWS * Segment.ROW_BYTES;
+            }
+        }
+        return allocated;
+    }
+
+    private abstract static class Segment {
+        static final int ROW_BYTES = Long.BYTES * 4 + 1;
+
+        abstract void set(int offset, long id, long userId, long amount, byte type, long updateMillis);
+
+        abstract long userId(int offset);
+
+        abstract PointHistory get(int offset);
+    }
+
+    private static class HeapSegment extends Segment {
+        private final long[] ids = new long[SEGMENT_ROWS];
+        private final long[] userIds = new long[SEGMENT_ROWS];
+        private final long[] amounts = new long[SEGMENT_ROWS];
+        private final long[] updateMillis = new long[SEGMENT_ROWS];
+        private final byte[] types = new byte[SEGMENT_ROWS];
+
+        @Override
+        void set(int offset, long id, long userId, long amount, byte type, long updateMillis) {
+            ids[offset] = id;
+            userIds[offset] = userId;
+            amounts[offset] = amount;
+            types[offset] = type;
+            this.updateMillis[offset] = updateMillis;
+        }
+
+        @Override
+        long userId(int offset) {
+            return userIds[offset];
+        }
+
+        @Override
+        PointHistory get(int offset) {
+            return new PointHistory(ids[offset], userIds[offset], amounts[offset], TYPES[types[offset]], updateMillis[offset]);
+        }
+    }
+
+    /**
+     * 힙 밖의 다이렉트 버퍼에 컬럼별 영역을 나눠 저장하므로 GC 대상 객체가 세그먼트당 하나뿐입니다.
+     */
+    private static class DirectSegment extends Segment {
+        private static final int ID_BASE = 0;
+        private static final int USER_ID_BASE = SEGMENT_ROWS * Long.BYTES;
+        private static final int AMOUNT_BASE = USER_ID_BASE * 2;
+        private static final int UPDATE_MILLIS_BASE = USER_ID_BASE * 3;
+        private static final int TYPE_BASE = USER_ID_BASE * 4;
+
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(SEGMENT_ROWS * ROW_BYTES);
+
+        @Override
+        void set(int offset, long id, long userId, long amount, byte type, long updateMillis) {
+            int longOffset = offset * Long.BYTES;
+            buffer.putLong(ID_BASE + longOffset, id);
+            buffer.putLong(USER_ID_BASE + longOffset, userId);
+            buffer.putLong(AMOUNT_BASE + longOffset, amount);
+            buffer.putLong(UPDATE_MILLIS_BASE + longOffset, updateMillis);
+            buffer.put(TYPE_BASE + offset, type);
+        }
+
+        @Override
+        long userId(int offset) {
+            return buffer.getLong(USER_ID_BASE + offset * Long.BYTES);
+        }
+
+        @Override
+        PointHistory get(int offset) {
+            int longOffset = offset * Long.BYTES;
+            return new PointHistory(
+                buffer.getLong(ID_BASE + longOffset),
+                buffer.getLong(USER_ID_BASE + longOffset),
+                buffer.getLong(AMOUNT_BASE + longOffset),
+                TYPES[buffer.get(TYPE_BASE + offset)],
+                buffer.getLong(UPDATE_MILLIS_BASE + longOffset)
+            );
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.PointHistoryStorePolicy;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PointHistoryTable의 공개 API를 ColumnarPointHistoryStore로 제공하는 대체 구현입니다.<br>
+ * 기본 히스토리 저장소로, point-history-store.type=table 이 아니면 PointHistoryTable 대신 주입됩니다. 추가 지연은 PointHistoryTable과 같습니다. (TableLatency)<br>
+ * 추가 지연은 저장소의 추가 락 밖에서 일어나므로, 여러 워커가 서로 다른 유저의 히스토리를 동시에 추가할 수 있습니다.<br>
+ * PointHistoryIndex는 이 구현을 사용하면 유저별로 히스토리 ID만 보관하고, 조회할 때 저장소에서 PointHistory를 만듭니다.
+ */
+@Component
+@Primary
+@Conditional(PointHistoryStorePolicy.ColumnarCondition.class)
+public class ColumnarPointHistoryTable extends PointHistoryTable {
+
+    private final ColumnarPointHistoryStore store;
+
+    public ColumnarPointHistoryTable(PointHistoryStorePolicy pointHistoryStorePolicy) {
+        this.store = new ColumnarPointHistoryStore(pointHistoryStorePolicy.storage());
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        TableLatency.throttle(TableLatency.WRITE_MILLIS);
+        return store.append(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return store.selectAllByUserId(userId);
+    }
+
+    public PointHistory selectById(long id) {
+        return store.selectById(id);
+    }
+
+    public ColumnarPointHistoryStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,233 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 ID(long)를 키로 포인트와 변경 시각을 저장하는 동시성 해시 맵입니다.<br>
+ * 세그먼트마다 open addressing(linear probing) 배열 하나에 [유저 ID, 포인트, 변경 시각]을 연속으로 저장하므로 항목별 객체가 없습니다.<br>
+ * 쓰기는 세그먼트의 쓰기 락으로 직렬화하고, 조회는 낙관적 읽기 후 쓰기와 겹쳤을 때만 읽기 락으로 다시 읽습니다.<br>
+ * 0은 빈 슬롯 표시로 사용하므로 유저 ID 0은 세그먼트의 별도 필드에 저장합니다.
+ */
+public class ConcurrentUserPointStore {
+
+    private static final long EMPTY = 0L;
+    private static final int STRIDE = 3;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    public ConcurrentUserPointStore(int segmentCount, int expectedSize) {
+        int size = Integer.highestOneBit(Math.max(2, segmentCount) - 1) << 1;
+        this.segments = new Segment[size];
+        this.segmentMask = size - 1;
+        for (int i = 0; i < size; i++) {
+            segments[i] = new Segment(Math.max(1, expectedSize / size));
+        }
+    }
+
+    /**
+     * @param id 유저 ID
+     * @return 유저 포인트, 없으면 null
+     */
+    public UserPoint get(long id) {
+        long hash = hash(id);
+        return segmentFor(hash).get(id, hash);
+    }
+
+    public void put(long id, long point, long updateMillis) {
+        long hash = hash(id);
+        segmentFor(hash).put(id, hash, point, updateMillis);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 저장된 모든 항목을 세그먼트별로 복사합니다. (세그먼트 사이의 쓰기는 막지 않음)
+     * @return [유저 ID, 포인트, 변경 시각]을 항목마다 이어 붙인 배열
+     */
+    public long[] toArray() {
+        long[][] copies = new long[segments.length][];
+        int length = 0;
+        for (int i = 0; i < segments.length; i++) {
+            copies[i] = segments[i].toArray();
+            length += copies[i].length;
+        }
+
+        long[] entries = new long[length];
+        int offset = 0;
+        for (long[] copy : copies) {
+            System.arraycopy(copy, 0, entries, offset, copy.length);
+            offset += copy.length;
+        }
+        return entries;
+    }
+
+    private Segment segmentFor(long hash) {
+        // 슬롯 위치는 하위 비트, 세그먼트는 상위 비트로 정해서 서로 영향을 주지 않도록 함
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    private static long hash(long value) {
+        // murmur3 fmix64
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93c185ce4ebL;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static class Segment {
+        private final StampedLock lock = new StampedLock();
+
+        // 크기를 늘릴 때는 새 배열을 모두 채운 후 교체하므로, 낙관적 읽기는 항상 완성된 배열 하나만 탐색
+        private volatile long[] slots;
+        private int size;
+        private int resizeThreshold;
+
+        private boolean containsZero;
+        private long zeroPoint;
+        private long zeroUpdateMillis;
+
+        private Segment(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+            this.slots = new long[capacity * STRIDE];
+            this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private UserPoint get(long id, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                UserPoint userPoint = read(id, hash);
+                if (lock.validate(stamp)) {
+                    return userPoint;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                return read(id, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private UserPoint read(long id, long hash) {
+            if (id == EMPTY) {
+                return containsZero ? new UserPoint(id, zeroPoint, zeroUpdateMillis) : null;
+            }
+
+            long[] current = slots;
+            int capacity = current.length / STRIDE;
+            int mask = capacity - 1;
+            int index = (int) hash & mask;
+            // 쓰기와 겹쳐도 배열 길이만큼만 탐색하므로 종료가 보장됨
+            for (int probe = 0; probe < capacity; probe++) {
+                int base = index * STRIDE;
+                long key = current[base];
+                if (key == EMPTY) {
+                    return null;
+                }
+                if (key == id) {
+                    return new UserPoint(id, current[base + 1], current[base + 2]);
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private void put(long id, long hash, long point, long updateMillis) {
+            long stamp = lock.writeLock();
+            try {
+                if (id == EMPTY) {
+                    if (!containsZero) {
+                        containsZero = true;
+                        size++;
+                    }
+                    zeroPoint = point;
+                    zeroUpdateMillis = updateMillis;
+                    return;
+                }
+
+                if (insert(slots, id, hash, point, updateMillis) && ++size > resizeThreshold) {
+                    resize();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private long[] toArray() {
+            long stamp = lock.readLock();
+            try {
+                long[] entries = new long[size * STRIDE];
+                int offset = 0;
+                if (containsZero) {
+                    entries[offset++] = EMPTY;
+                    entries[offset++] = zeroPoint;
+                    entries[offset++] = zeroUpdateMillis;
+                }
+                long[] current = slots;
+                for (int base = 0; base < current.length; base += STRIDE) {
+                    if (current[base] != EMPTY) {
+                        System.arraycopy(current, base, entries, offset, STRIDE);
+                        offset += STRIDE;
+                    }
+                }
+                return entries;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * @return 새 키를 추가했으면 true, 기존 키를 갱신했으면 false
+         */
+        private static boolean insert(long[] target, long id, long hash, long point, long updateMillis) {
+            int mask = target.length / STRIDE - 1;
+            int index = (int) hash & mask;
+            while (true) {
+                int base = index * STRIDE;
+                long key = target[base];
+                if (key == EMPTY || key == id) {
+                    target[base + 1] = point;
+                    target[base + 2] = updateMillis;
+                    target[base] = id;
+                    return key == EMPTY;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void resize() {
+            long[] current = slots;
+            long[] resized = new long[current.length * 2];
+            for (int base = 0; base < current.length; base += STRIDE) {
+                long key = current[base];
+                if (key != EMPTY) {
+                    insert(resized, key, hash(key), current[base + 1], current[base + 2]);
+                }
+            }
+            slots = resized;
+            resizeThreshold = (int) (resized.length / STRIDE * LOAD_FACTOR);
+        }
+    }
+}
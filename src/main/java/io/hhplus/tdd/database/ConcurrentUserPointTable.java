@@ -0,0 +1,56 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.UserPointStorePolicy;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserPointTable의 공개 API를 ConcurrentUserPointStore로 제공하는 대체 구현입니다.<br>
+ * 기본 유저 포인트 저장소로, user-point-store.type=table 이 아니면 UserPointTable 대신 주입되며, 서로 다른 유저의 동시 쓰기에도 안전합니다.<br>
+ * 조회/변경 지연은 UserPointTable과 같습니다. (TableLatency)
+ */
+@Component
+@Primary
+@Conditional(UserPointStorePolicy.ConcurrentCondition.class)
+public class ConcurrentUserPointTable extends UserPointTable {
+
+    private static final int EXPECTED_USERS = 1 << 16;
+
+    private final ConcurrentUserPointStore store;
+
+    public ConcurrentUserPointTable(UserPointStorePolicy userPointStorePolicy) {
+        this.store = new ConcurrentUserPointStore(userPointStorePolicy.segments(), EXPECTED_USERS);
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        TableLatency.throttle(TableLatency.SELECT_MILLIS);
+        UserPoint userPoint = store.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        TableLatency.throttle(TableLatency.WRITE_MILLIS);
+        long updateMillis = System.currentTimeMillis();
+        store.put(id, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    /**
+     * 복구한 유저 포인트 저장<br>
+     * 요청을 받기 전(복구 중)에만 호출하므로 변경 지연 없이 저장하고, 변경 시각은 복구한 원래 시각으로 유지합니다.
+     */
+    public void restore(long id, long point, long updateMillis) {
+        store.put(id, point, updateMillis);
+    }
+
+    /**
+     * @return 저장된 모든 유저의 [유저 ID, 포인트, 변경 시각]을 이어 붙인 배열 (ConcurrentUserPointStore.toArray)
+     */
+    public long[] toArray() {
+        return store.toArray();
+    }
+}
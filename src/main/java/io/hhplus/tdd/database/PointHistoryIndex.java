@@ -0,0 +1,400 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * PointHistoryTable 앞단의 유저별 히스토리 인덱스입니다.<br>
+ * 히스토리를 추가할 때 유저별 목록에도 함께 저장하므로, 유저 히스토리 조회 비용이 전체 히스토리 수가 아닌 해당 유저의 히스토리 수에만 비례합니다.<br>
+ * 컬럼 저장소(ColumnarPointHistoryTable)를 사용하면 유저별 목록에는 히스토리 ID만 보관합니다.<br>
+ * 유저별로 변경 시각 순으로 정렬된 시각 인덱스도 함께 두어, 기간 조회를 이진 탐색으로 처리합니다.<br>
+ * 히스토리를 추가할 때 유저별 충전/사용 합계도 같은 락 안에서 갱신하므로, 통계 조회는 히스토리를 다시 읽지 않습니다.
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final ReentrantLock tableWriteLock;
+    private final ConcurrentHashMap<Long, UserHistory> userHistories = new ConcurrentHashMap<>();
+
+    public PointHistoryIndex(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.tableWriteLock = pointHistoryTable instanceof ColumnarPointHistoryTable ? null : new ReentrantLock();
+    }
+
+    /**
+     * 포인트 히스토리 추가<br>
+     * 1. 테이블에 히스토리 추가 (PointHistoryTable은 cursor 증가와 ArrayList 추가가 원자적이지 않으므로 한 번에 하나씩만 추가,
+     *    기본 저장소인 ColumnarPointHistoryTable은 추가 지연 동안 락을 잡지 않으므로 동시에 추가)<br>
+     * 2. 추가된 히스토리를 유저별 목록에 추가<br>
+     * @param userId 유저 ID
+     * @param amount 충전/사용 금액
+     * @param type 트랜잭션 종류
+     * @param updateMillis 포인트 변경 시각
+     * @return 추가된 히스토리
+     */
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = insertIntoTable(userId, amount, type, updateMillis);
+        index(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * 복구한 포인트 히스토리 추가<br>
+     * 컬럼 저장소(ColumnarPointHistoryTable)는 테이블 추가 지연 없이 저장소에 바로 추가하고, PointHistoryTable은 insert와 같이 추가합니다.<br>
+     * 요청을 받기 전(복구 중)에만 호출합니다.
+     * @param userId 유저 ID
+     * @param amount 충전/사용 금액
+     * @param type 트랜잭션 종류
+     * @param updateMillis 포인트 변경 시각
+     * @return 추가된 히스토리
+     */
+    public PointHistory restore(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable instanceof ColumnarPointHistoryTable columnarTable
+            ? columnarTable.store().append(userId, amount, type, updateMillis)
+            : insertIntoTable(userId, amount, type, updateMillis);
+        index(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * 유저 ID로 포인트 히스토리 조회
+     * @param userId 유저 ID
+     * @return 추가된 순서대로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistory userHistory = userHistories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        return userHistory.snapshot();
+    }
+
+    /**
+     * 유저 ID로 포인트 히스토리 커서 조회<br>
+     * 유저별 목록은 히스토리 ID 순서로 추가되므로, 이진 탐색으로 커서 위치를 찾습니다.
+     * @param userId 유저 ID
+     * @param afterId 이 히스토리 ID 이후부터 조회 (처음부터 조회하려면 0)
+     * @param limit 최대 조회 개수
+     * @return 히스토리 ID 순으로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> selectByUserIdAfter(long userId, long afterId, int limit) {
+        UserHistory userHistory = userHistories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        return userHistory.page(afterId, limit);
+    }
+
+    /**
+     * 유저 ID로 포인트 히스토리 위치 조회<br>
+     * 히스토리 ID는 재시작 후 저널로 복구하면 달라질 수 있으므로, 재시작 후에도 이어서 읽는 경우(정합성 검사 체크포인트) 유저별 목록의 위치로 조회합니다.
+     * @param userId 유저 ID
+     * @param offset 이 위치부터 조회 (처음부터 조회하려면 0)
+     * @param limit 최대 조회 개수
+     * @return 추가된 순서대로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> selectByUserIdFrom(long userId, int offset, int limit) {
+        UserHistory userHistory = userHistories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        return userHistory.pageFrom(offset, limit);
+    }
+
+    /**
+     * 유저 ID로 기간 내 포인트 히스토리 조회<br>
+     * 시각 인덱스에서 이진 탐색으로 시작 위치를 찾으므로, 비용이 유저 히스토리 수의 로그와 조회 개수에 비례합니다.
+     * @param userId 유저 ID
+     * @param fromMillis 이 시각부터 조회 (포함)
+     * @param toMillis 이 시각 전까지 조회 (미포함)
+     * @param limit 최대 조회 개수
+     * @return 변경 시각 순(같으면 히스토리 ID 순)으로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> selectByUserIdBetween(long userId, long fromMillis, long toMillis, int limit) {
+        UserHistory userHistory = userHistories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        return userHistory.range(fromMillis, toMillis, limit);
+    }
+
+    /**
+     * 유저 ID로 포인트 거래 통계 조회<br>
+     * 히스토리를 추가할 때 갱신한 합계와 시각 인덱스의 처음/끝을 읽으므로 히스토리 수와 관계없이 일정한 비용으로 조회합니다.
+     * @param userId 유저 ID
+     * @return 지금까지 추가된 히스토리의 통계 (히스토리가 없으면 모두 0)
+     */
+    public PointStats selectStatsByUserId(long userId) {
+        UserHistory userHistory = userHistories.get(userId);
+        if (userHistory == null) {
+            return PointStats.empty(userId);
+        }
+        return userHistory.stats(userId);
+    }
+
+    /**
+     * 히스토리가 있는 모든 유저 ID를 순회합니다.
+     * @param action 유저 ID별로 수행할 작업
+     */
+    public void forEachUserId(LongConsumer action) {
+        userHistories.keySet().forEach(action::accept);
+    }
+
+    private PointHistory insertIntoTable(long userId, long amount, TransactionType type, long updateMillis) {
+        if (tableWriteLock == null) {
+            return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        }
+
+        tableWriteLock.lock();
+        try {
+            return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            tableWriteLock.unlock();
+        }
+    }
+
+    void index(PointHistory pointHistory) {
+        userHistories.computeIfAbsent(pointHistory.userId(), key -> newUserHistory())
+            .add(pointHistory);
+    }
+
+    private UserHistory newUserHistory() {
+        return pointHistoryTable instanceof ColumnarPointHistoryTable columnarTable
+            ? new ColumnarUserHistory(columnarTable)
+            : new ObjectUserHistory();
+    }
+
+    /**
+     * 유저별 히스토리 목록<br>
+     * times/positions는 변경 시각 순으로 정렬된 시각 인덱스로, positions[i]는 times[i]에 해당하는 히스토리의 목록 내 위치입니다.
+     * 히스토리는 대부분 변경 시각 순으로 추가되므로 끝에 붙이고, 시각이 앞서는 히스토리만 제자리에 끼워 넣습니다.<br>
+     * totalCharged/totalUsed는 목록에 추가한 히스토리의 충전/사용 합계입니다.
+     */
+    private abstract static class UserHistory {
+        protected final ReentrantLock lock = new ReentrantLock();
+        private long[] times = new long[4];
+        private int[] positions = new int[4];
+        private long totalCharged;
+        private long totalUsed;
+
+        private void add(PointHistory pointHistory) {
+            lock.lock();
+            try {
+                int position = size();
+                append(pointHistory);
+                indexTime(pointHistory.updateMillis(), position);
+                if (pointHistory.type() == TransactionType.CHARGE) {
+                    totalCharged += pointHistory.amount();
+                } else {
+                    totalUsed += pointHistory.amount();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private PointStats stats(long userId) {
+            lock.lock();
+            try {
+                int size = size();
+                if (size == 0) {
+                    return PointStats.empty(userId);
+                }
+                return new PointStats(userId, totalCharged, totalUsed, size, times[0], times[size - 1]);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void indexTime(long updateMillis, int position) {
+            if (position == times.length) {
+                times = Arrays.copyOf(times, position * 2);
+                positions = Arrays.copyOf(positions, position * 2);
+            }
+
+            int at = position;
+            if (position > 0 && times[position - 1] > updateMillis) {
+                at = firstTimeIndexAtOrAfter(updateMillis + 1, position);
+                System.arraycopy(times, at, times, at + 1, position - at);
+                System.arraycopy(positions, at, positions, at + 1, position - at);
+            }
+            times[at] = updateMillis;
+            positions[at] = position;
+        }
+
+        private List<PointHistory> range(long fromMillis, long toMillis, int limit) {
+            lock.lock();
+            try {
+                int size = size();
+                int from = firstTimeIndexAtOrAfter(fromMillis, size);
+                int to = firstTimeIndexAtOrAfter(toMillis, size);
+                to = (int) Math.min(to, (long) from + limit);
+                if (from >= to) {
+                    return List.of();
+                }
+
+                PointHistory[] pointHistories = new PointHistory[to - from];
+                for (int i = from; i < to; i++) {
+                    pointHistories[i - from] = at(positions[i]);
+                }
+                return List.of(pointHistories);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int firstTimeIndexAtOrAfter(long millis, int size) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < millis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<PointHistory> page(long afterId, int limit) {
+            lock.lock();
+            try {
+                int from = firstIndexAfter(afterId);
+                int to = (int) Math.min(size(), (long) from + limit);
+                return slice(from, to);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<PointHistory> pageFrom(int offset, int limit) {
+            lock.lock();
+            try {
+                int size = size();
+                int from = Math.min(offset, size);
+                int to = (int) Math.min(size, (long) from + limit);
+                return slice(from, to);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int firstIndexAfter(long afterId) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (idAt(mid) <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<PointHistory> snapshot() {
+            lock.lock();
+            try {
+                return slice(0, size());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        abstract void append(PointHistory pointHistory);
+
+        abstract int size();
+
+        abstract long idAt(int index);
+
+        abstract PointHistory at(int index);
+
+        abstract List<PointHistory> slice(int from, int to);
+    }
+
+    private static class ObjectUserHistory extends UserHistory {
+        private final List<PointHistory> entries = new ArrayList<>();
+
+        @Override
+        void append(PointHistory pointHistory) {
+            entries.add(pointHistory);
+        }
+
+        @Override
+        int size() {
+            return entries.size();
+        }
+
+        @Override
+        long idAt(int index) {
+            return entries.get(index).id();
+        }
+
+        @Override
+        PointHistory at(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        List<PointHistory> slice(int from, int to) {
+            return List.copyOf(entries.subList(from, to));
+        }
+    }
+
+    /**
+     * 히스토리 ID만 원시 타입 배열로 보관하고, 조회할 때 컬럼 저장소에서 PointHistory를 만듭니다.
+     */
+    private static class ColumnarUserHistory extends UserHistory {
+        private final ColumnarPointHistoryTable columnarTable;
+        private long[] ids = new long[4];
+        private int size;
+
+        private ColumnarUserHistory(ColumnarPointHistoryTable columnarTable) {
+            this.columnarTable = columnarTable;
+        }
+
+        @Override
+        void append(PointHistory pointHistory) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = pointHistory.id();
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        long idAt(int index) {
+            return ids[index];
+        }
+
+        @Override
+        PointHistory at(int index) {
+            return columnarTable.selectById(ids[index]);
+        }
+
+        @Override
+        List<PointHistory> slice(int from, int to) {
+            PointHistory[] pointHistories = new PointHistory[to - from];
+            for (int i = from; i < to; i++) {
+                pointHistories[i - from] = columnarTable.selectById(ids[i]);
+            }
+            return List.of(pointHistories);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제공된 테이블(UserPointTable, PointHistoryTable)과 같은 지연을 대체 구현에서도 재현합니다.<br>
+ * 대체 구현으로 바꿨을 때의 차이가 저장 구조의 차이만 나타내도록, 지연 모델(0 ~ maxMillis 균등 분포)을 그대로 따릅니다.
+ */
+final class TableLatency {
+
+    static final long SELECT_MILLIS = 200L;
+    static final long WRITE_MILLIS = 300L;
+
+    private TableLatency() {
+    }
+
+    static void throttle(long maxMillis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * maxMillis));
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+}
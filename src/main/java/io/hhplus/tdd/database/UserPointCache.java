@@ -0,0 +1,235 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable 앞단의 write-through 캐시입니다.<br>
+ * 포인트 변경은 테이블에 먼저 반영한 뒤 캐시를 갱신하므로, 유저 락 안에서 변경한 결과가 이후 조회에 그대로 사용됩니다.<br>
+ * 락 경쟁을 줄이기 위해 유저 ID 기준으로 세그먼트를 나누고, 세그먼트마다 LRU 방식으로 제거합니다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointTable userPointTable;
+    private final PointMetrics pointMetrics;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public UserPointCache(UserPointTable userPointTable, UserPointCachePolicy userPointCachePolicy, PointMetrics pointMetrics) {
+        this.userPointTable = userPointTable;
+        this.pointMetrics = pointMetrics;
+
+        int segmentSize = Math.max(1, userPointCachePolicy.maximumSize() / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        pointMetrics.registerUserPointCache(this);
+    }
+
+    /**
+     * 유저 포인트 조회<br>
+     * 1. 캐시에 있으면 캐시된 포인트 반환<br>
+     * 2. 캐시에 없으면 테이블에서 조회<br>
+     * 3. 조회하는 동안 세그먼트가 바뀌지 않았을 때만 조회 결과를 캐시에 추가<br>
+     * (조회하는 동안 다른 스레드가 포인트를 변경한 후 캐시에서 제거되면, 변경 전 포인트가 캐시에 남을 수 있으므로)<br>
+     * @param id 유저 ID
+     * @return 유저 포인트 현황
+     */
+    public UserPoint selectById(Long id) {
+        Segment segment = segmentFor(id);
+
+        UserPoint cached = segment.get(id);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        long version = segment.version();
+        long startNanos = System.nanoTime();
+        UserPoint loaded = userPointTable.selectById(id);
+        pointMetrics.recordUserPointSelect(System.nanoTime() - startNanos);
+        return segment.putIfUnchanged(id, loaded, version);
+    }
+
+    /**
+     * 캐시를 거치지 않는 유저 포인트 조회<br>
+     * 테이블에서 바로 조회하고 캐시에 추가하지 않으므로, 모든 유저를 순회하는 정합성 검사가 요청에 쓰이는 캐시 항목을 밀어내지 않습니다.<br>
+     * 포인트 변경은 테이블에 먼저 반영하므로, 유저 락 안에서 조회하면 캐시와 같은 포인트를 반환합니다.
+     * @param id 유저 ID
+     * @return 유저 포인트 현황
+     */
+    public UserPoint selectByIdUncached(long id) {
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = userPointTable.selectById(id);
+        pointMetrics.recordUserPointSelect(System.nanoTime() - startNanos);
+        return userPoint;
+    }
+
+    /**
+     * 유저 포인트 변경<br>
+     * 1. 테이블에 포인트 반영<br>
+     * 2. 반영된 포인트로 캐시 갱신<br>
+     * @param id 유저 ID
+     * @param amount 변경할 포인트
+     * @return 변경된 유저 포인트 현황
+     */
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        pointMetrics.recordUserPointUpdate(System.nanoTime() - startNanos);
+        segmentFor(id).put(id, userPoint);
+        return userPoint;
+    }
+
+    /**
+     * 복구한 유저 포인트 반영<br>
+     * 1. 테이블에 포인트 반영 (ConcurrentUserPointTable은 변경 지연 없이 원래 변경 시각으로 저장, UserPointTable은 insertOrUpdate로 반영)<br>
+     * 2. 캐시에서 제거<br>
+     * 요청을 받기 전(복구 중)에만 호출합니다.
+     * @param id 유저 ID
+     * @param point 복구한 포인트
+     * @param updateMillis 복구한 포인트의 변경 시각
+     */
+    public void restore(long id, long point, long updateMillis) {
+        if (userPointTable instanceof ConcurrentUserPointTable concurrentTable) {
+            concurrentTable.restore(id, point, updateMillis);
+        } else {
+            userPointTable.insertOrUpdate(id, point);
+        }
+        segmentFor(id).remove(id);
+    }
+
+    public void invalidate(long id) {
+        segmentFor(id).remove(id);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[(Long.hashCode(id) & Integer.MAX_VALUE) % SEGMENT_COUNT];
+    }
+
+    /**
+     * version은 세그먼트의 항목을 추가/변경/제거할 때마다 증가합니다. (LRU 제거는 추가할 때 일어나므로 함께 반영됨)
+     */
+    private static class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, UserPoint> entries;
+        private long version;
+
+        private Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        private UserPoint get(long id) {
+            lock.lock();
+            try {
+                return entries.get(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private UserPoint putIfUnchanged(long id, UserPoint userPoint, long expectedVersion) {
+            lock.lock();
+            try {
+                UserPoint existing = entries.get(id);
+                if (existing != null) {
+                    return existing;
+                }
+                if (version == expectedVersion) {
+                    version++;
+                    entries.put(id, userPoint);
+                }
+                return userPoint;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(long id, UserPoint userPoint) {
+            lock.lock();
+            try {
+                version++;
+                entries.put(id, userPoint);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(long id) {
+            lock.lock();
+            try {
+                version++;
+                entries.remove(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                version++;
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.dto.point;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchPointOperationDto {
+    @NotNull(message = "유저 Id는 필수입니다.")
+    @Positive(message = "유저 Id는 양수여야 합니다.")
+    private Long userId;
+
+    @NotNull(message = "트랜잭션 종류는 필수입니다.")
+    private TransactionType type;
+
+    @NotNull(message = "금액은 필수입니다.")
+    @Positive(message = "금액은 양수여야 합니다.")
+    private Long amount;
+
+    public PointOperation toOperation() {
+        return new PointOperation(userId, type, amount);
+    }
+}
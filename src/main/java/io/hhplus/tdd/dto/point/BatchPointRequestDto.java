@@ -0,0 +1,27 @@
+package io.hhplus.tdd.dto.point;
+
+import io.hhplus.tdd.point.PointOperation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchPointRequestDto {
+    @NotEmpty(message = "작업 목록은 비어있을 수 없습니다.")
+    @Size(max = 1000, message = "작업은 한 번에 1000개까지 요청할 수 있습니다.")
+    private List<@NotNull @Valid BatchPointOperationDto> operations;
+
+    public List<PointOperation> toOperations() {
+        return operations.stream()
+            .map(BatchPointOperationDto::toOperation)
+            .toList();
+    }
+}
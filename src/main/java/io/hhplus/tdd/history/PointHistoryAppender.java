@@ -0,0 +1,202 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리를 유저 락 밖에서 비동기로 기록합니다.<br>
+ * 유저별 대기열은 추가된 순서대로 하나의 워커만 처리하므로 유저 단위 히스토리 순서가 보장됩니다.<br>
+ * 기본 히스토리 저장소(ColumnarPointHistoryTable)는 여러 워커가 서로 다른 유저의 히스토리를 동시에 기록하고,
+ * PointHistoryTable을 사용하면 PointHistoryIndex에서 한 번에 하나씩 기록합니다.<br>
+ * 기록 대기 중인 히스토리가 버퍼 크기에 이르면 새 충전/사용 요청은 유저 락을 잡기 전에 awaitCapacity에서 대기합니다.
+ * 히스토리 추가 요청은 유저 락 안에서 대기하지 않으므로, 버퍼가 가득 차도 다른 요청의 락 구간이 길어지지 않습니다.
+ */
+@Component
+@Slf4j
+public class PointHistoryAppender {
+
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointMetrics pointMetrics;
+    private final ExecutorService workers;
+    private final int capacity;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final Condition drained = capacityLock.newCondition();
+    private final ConcurrentHashMap<Long, UserHistoryQueue> userQueues = new ConcurrentHashMap<>();
+
+    public PointHistoryAppender(PointHistoryIndex pointHistoryIndex, PointHistoryBuffer pointHistoryBuffer, PointMetrics pointMetrics) {
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointMetrics = pointMetrics;
+        this.capacity = pointHistoryBuffer.capacity();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(pointHistoryBuffer.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "point-history-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기록 대기 중인 히스토리가 버퍼 크기보다 적어질 때까지 대기합니다.<br>
+     * 충전/사용 요청이 유저 락(샤드, 셀)에 들어가기 전에 호출합니다.
+     * 대기를 마친 요청들이 동시에 히스토리를 추가할 수 있으므로, 대기 중인 히스토리 수는 버퍼 크기를 잠시 넘을 수 있습니다.
+     */
+    public void awaitCapacity() {
+        if (pending.get() < capacity) {
+            return;
+        }
+
+        capacityLock.lock();
+        try {
+            while (pending.get() >= capacity) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    /**
+     * 포인트 히스토리 추가 요청 (대기하지 않음)<br>
+     * 1. 기록 대기 중인 히스토리 수 증가<br>
+     * 2. 유저별 대기열에 추가<br>
+     * 3. 대기열이 새로 생성되었으면 워커에 처리 요청<br>
+     * @param userId 유저 ID
+     * @param amount 충전/사용 금액
+     * @param type 트랜잭션 종류
+     * @param updateMillis 포인트 변경 시각
+     * @return 히스토리 기록 결과
+     */
+    public CompletableFuture<PointHistory> append(long userId, long amount, TransactionType type, long updateMillis) {
+        pending.incrementAndGet();
+
+        HistoryTask task = new HistoryTask(userId, amount, type, updateMillis, new CompletableFuture<>());
+        UserHistoryQueue[] created = new UserHistoryQueue[1];
+        userQueues.compute(userId, (key, queue) -> {
+            if (queue == null) {
+                queue = new UserHistoryQueue();
+                created[0] = queue;
+            }
+            queue.add(task);
+            return queue;
+        });
+
+        // 워커 큐에 넣는 동안 대기할 수 있으므로 compute(버킷 락) 밖에서 처리 요청
+        if (created[0] != null) {
+            UserHistoryQueue queue = created[0];
+            workers.execute(() -> drain(userId, queue));
+        }
+
+        return task.result();
+    }
+
+    /**
+     * 해당 유저에 대해 지금까지 요청된 히스토리가 모두 기록될 때까지 대기합니다.
+     * @param userId 유저 ID
+     */
+    public void flush(long userId) {
+        UserHistoryQueue queue = userQueues.get(userId);
+        if (queue != null) {
+            await(queue.last);
+        }
+    }
+
+    /**
+     * 모든 유저에 대해 지금까지 요청된 히스토리가 모두 기록될 때까지 대기합니다.
+     */
+    public void flushAll() {
+        userQueues.values().forEach(queue -> await(queue.last));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+        workers.shutdown();
+    }
+
+    private void drain(long userId, UserHistoryQueue queue) {
+        while (true) {
+            HistoryTask task = queue.tasks.poll();
+
+            if (task == null) {
+                // 처리하는 동안 새로 추가된 요청이 없을 때만 대기열을 제거
+                UserHistoryQueue remaining = userQueues.compute(userId, (key, current) -> current.tasks.isEmpty() ? null : current);
+                if (remaining == null) {
+                    return;
+                }
+                continue;
+            }
+
+            write(task);
+        }
+    }
+
+    private void write(HistoryTask task) {
+        long startNanos = System.nanoTime();
+        try {
+            PointHistory pointHistory = pointHistoryIndex.insert(task.userId(), task.amount(), task.type(), task.updateMillis());
+            pointMetrics.recordHistoryInsert(System.nanoTime() - startNanos);
+            task.result().complete(pointHistory);
+        } catch (Exception ex) {
+            pointMetrics.incrementHistoryFailure();
+            log.error(task.type() + " 히스토리 추가 실패: " + ex.getMessage());
+            task.result().completeExceptionally(ex);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() != capacity - 1) {
+            return;
+        }
+
+        // 버퍼 크기 아래로 내려갈 때만 대기 중인 요청을 깨움
+        capacityLock.lock();
+        try {
+            drained.signalAll();
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    private void await(CompletableFuture<PointHistory> result) {
+        result.handle((history, ex) -> null).join();
+    }
+
+    private record HistoryTask(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis,
+        CompletableFuture<PointHistory> result
+    ) {
+    }
+
+    private static class UserHistoryQueue {
+        private final Queue<HistoryTask> tasks = new ConcurrentLinkedQueue<>();
+        private volatile CompletableFuture<PointHistory> last;
+
+        private void add(HistoryTask task) {
+            tasks.add(task);
+            last = task.result();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 저널 기록
+ * @param sequence 기록 순번 (1부터 증가)
+ * @param userId 유저 ID
+ * @param amount 충전/사용 금액 (잔액 보정 기록이면 0)
+ * @param type 기록 종류
+ * @param balance 반영 이후 잔액
+ * @param updateMillis 포인트 변경 시각
+ */
+public record JournalRecord(
+    long sequence,
+    long userId,
+    long amount,
+    JournalRecordType type,
+    long balance,
+    long updateMillis
+) {
+
+    /**
+     * @return 충전/사용이 아닌 잔액 보정 기록이면 true
+     */
+    public boolean isBalanceCorrection() {
+        return type == JournalRecordType.BALANCE_CORRECTION;
+    }
+
+    /**
+     * @return 충전/사용 기록의 트랜잭션 종류
+     */
+    public TransactionType transactionType() {
+        return type.transactionType();
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 저널 기록 종류
+ * - CHARGE : 충전
+ * - USE : 사용
+ * - BALANCE_CORRECTION : 정합성 검사의 잔액 보정 (충전/사용이 아니므로 복구 시 히스토리를 추가하지 않음)
+ * 저널 파일에는 순서(ordinal)로 기록하므로, 새 종류는 항상 끝에 추가합니다.
+ */
+public enum JournalRecordType {
+    CHARGE, USE, BALANCE_CORRECTION;
+
+    public static JournalRecordType of(TransactionType type) {
+        return type == TransactionType.CHARGE ? CHARGE : USE;
+    }
+
+    /**
+     * @return 충전/사용 기록의 트랜잭션 종류
+     */
+    public TransactionType transactionType() {
+        return switch (this) {
+            case CHARGE -> TransactionType.CHARGE;
+            case USE -> TransactionType.USE;
+            case BALANCE_CORRECTION -> throw new IllegalStateException("잔액 보정 기록은 트랜잭션 종류가 없습니다.");
+        };
+    }
+}
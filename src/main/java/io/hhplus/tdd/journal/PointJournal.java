@@ -0,0 +1,401 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 충전/사용 기록을 메모리 매핑한 파일에 순서대로 추가하는 저널입니다.<br>
+ * 기록은 48 바이트 고정 크기이며 [순번, 유저 ID, 금액, 잔액, 변경 시각, 종류, CRC32C] 순서로 저장합니다.<br>
+ * 파일은 chunkSize 단위로 매핑하며, 순번이 0이거나 체크섬이 맞지 않는 기록을 파일의 끝으로 봅니다. (기록 도중 장애가 난 마지막 기록은 버림)<br>
+ * ALWAYS 정책에서는 동기화 스레드 하나가 대기 중인 기록을 모아 한 번에 동기화하고(group commit), 기록한 스레드는 awaitDurable로 동기화를 기다립니다.
+ */
+@Component
+@Slf4j
+public class PointJournal {
+
+    static final int RECORD_BYTES = 48;
+    private static final int CHECKSUM_OFFSET = 44;
+    private static final JournalRecordType[] TYPES = JournalRecordType.values();
+
+    private final boolean enabled;
+    private final JournalFsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final int chunkBytes;
+    private final FileChannel channel;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final byte[] scratch = new byte[RECORD_BYTES];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+    private volatile MappedByteBuffer chunk;
+    private long chunkIndex;
+    private int chunkPosition;
+    private volatile long appendedSequence;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition pendingFlush = flushLock.newCondition();
+    private final Condition durableAdvanced = flushLock.newCondition();
+    private volatile long durableSequence;
+    private volatile boolean running = true;
+    private final Thread flusher;
+
+    public PointJournal(PointJournalPolicy pointJournalPolicy) {
+        this.enabled = pointJournalPolicy.enabled();
+        this.fsyncPolicy = pointJournalPolicy.fsync();
+        this.fsyncIntervalNanos = pointJournalPolicy.fsyncInterval().toNanos();
+        this.chunkBytes = (int) (pointJournalPolicy.chunkSize().toBytes() / RECORD_BYTES) * RECORD_BYTES;
+
+        if (!enabled) {
+            this.channel = null;
+            this.flusher = null;
+            return;
+        }
+
+        try {
+            Path path = pointJournalPolicy.path();
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            openTail();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("포인트 저널을 열 수 없습니다.", ex);
+        }
+
+        this.durableSequence = appendedSequence;
+        if (fsyncPolicy == JournalFsyncPolicy.NONE) {
+            this.flusher = null;
+        } else {
+            this.flusher = new Thread(fsyncPolicy == JournalFsyncPolicy.ALWAYS ? this::flushOnDemand : this::flushPeriodically, "point-journal-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저널 기록 추가<br>
+     * 같은 유저의 기록 순서가 포인트 반영 순서와 같도록 유저 락 안에서 호출합니다.
+     * @return 기록 순번 (저널을 사용하지 않으면 0)
+     */
+    public long append(long userId, long amount, TransactionType type, long balance, long updateMillis) {
+        return append(userId, amount, JournalRecordType.of(type), balance, updateMillis);
+    }
+
+    /**
+     * 잔액 보정 기록 추가<br>
+     * 충전/사용이 아닌 정합성 검사의 복구로 잔액을 바꿀 때, 재시작 후에도 복구한 잔액이 유지되도록 BALANCE_CORRECTION 기록으로 남깁니다.<br>
+     * 복구 시 잔액만 반영하고 히스토리는 추가하지 않습니다.
+     * @return 기록 순번 (저널을 사용하지 않으면 0)
+     */
+    public long appendBalanceCorrection(long userId, long balance, long updateMillis) {
+        return append(userId, 0L, JournalRecordType.BALANCE_CORRECTION, balance, updateMillis);
+    }
+
+    private long append(long userId, long amount, JournalRecordType type, long balance, long updateMillis) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        long sequence;
+        appendLock.lock();
+        try {
+            if (chunkPosition == chunkBytes) {
+                nextChunk();
+            }
+
+            sequence = appendedSequence + 1;
+            scratchBuffer.clear();
+            scratchBuffer.putLong(sequence)
+                .putLong(userId)
+                .putLong(amount)
+                .putLong(balance)
+                .putLong(updateMillis)
+                .put((byte) type.ordinal());
+            crc.reset();
+            crc.update(scratch, 0, CHECKSUM_OFFSET);
+            scratchBuffer.putInt(CHECKSUM_OFFSET, (int) crc.getValue());
+
+            chunk.put(chunkPosition, scratch);
+            chunkPosition += RECORD_BYTES;
+            appendedSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (fsyncPolicy == JournalFsyncPolicy.ALWAYS) {
+            flushLock.lock();
+            try {
+                pendingFlush.signal();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * 지금까지 추가된 기록이 디스크에 동기화될 때까지 기다립니다.<br>
+     * ALWAYS 정책에서만 기다리며, 유저 락을 해제한 후 호출해서 동기화 시간 동안 락을 점유하지 않도록 합니다.
+     */
+    public void awaitDurable() {
+        if (!enabled || fsyncPolicy != JournalFsyncPolicy.ALWAYS) {
+            return;
+        }
+
+        long target = appendedSequence;
+        if (durableSequence >= target) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            while (durableSequence < target && running) {
+                durableAdvanced.awaitUninterruptibly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 파일 처음부터 유효한 기록을 순서대로 읽습니다.
+     * @param action 기록별로 수행할 작업
+     * @return 읽은 기록 수
+     */
+    public long replay(Consumer<JournalRecord> action) {
+        return replay(0L, action);
+    }
+
+    /**
+     * 지정한 순번 이후의 유효한 기록을 순서대로 읽습니다.<br>
+     * 기록은 고정 크기이고 순번이 빠짐없이 이어지므로, 앞의 기록을 읽지 않고 시작 위치를 바로 계산합니다.
+     * @param afterSequence 이 순번 이후부터 읽음 (처음부터 읽으려면 0)
+     * @param action 기록별로 수행할 작업
+     * @return 읽은 기록 수
+     */
+    public long replay(long afterSequence, Consumer<JournalRecord> action) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        int chunkRecords = chunkBytes / RECORD_BYTES;
+        long count = 0;
+        long expectedSequence = afterSequence + 1;
+        int offset = (int) (afterSequence % chunkRecords) * RECORD_BYTES;
+        try {
+            for (long index = afterSequence / chunkRecords; ; index++, offset = 0) {
+                long position = index * chunkBytes;
+                if (position >= channel.size()) {
+                    return count;
+                }
+                MappedByteBuffer readChunk = channel.map(FileChannel.MapMode.READ_ONLY, position, chunkBytes);
+                for (; offset < chunkBytes; offset += RECORD_BYTES) {
+                    JournalRecord record = read(readChunk, offset);
+                    if (record == null || record.sequence() != expectedSequence || record.sequence() > appendedSequence) {
+                        return count;
+                    }
+                    action.accept(record);
+                    expectedSequence++;
+                    count++;
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("포인트 저널을 읽을 수 없습니다.", ex);
+        }
+    }
+
+    /**
+     * 동기화 정책과 관계없이 지금까지 추가된 기록을 바로 디스크에 동기화합니다.
+     */
+    public void sync() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * @return 마지막으로 추가된 기록 순번
+     */
+    public long lastSequence() {
+        return appendedSequence;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+        appendLock.lock();
+        try {
+            chunk.force();
+            channel.close();
+        } catch (IOException ex) {
+            log.error("포인트 저널 종료 실패: " + ex.getMessage());
+        } finally {
+            appendLock.unlock();
+        }
+
+        flushLock.lock();
+        try {
+            durableAdvanced.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 유효 기록 다음 위치를 찾아 추가 위치로 매핑합니다.
+     */
+    private void openTail() throws IOException {
+        long lastSequence = 0;
+        long index = 0;
+        int position = 0;
+
+        while (true) {
+            MappedByteBuffer current = channel.map(FileChannel.MapMode.READ_WRITE, index * chunkBytes, chunkBytes);
+            position = 0;
+            while (position < chunkBytes) {
+                JournalRecord record = read(current, position);
+                if (record == null || record.sequence() != lastSequence + 1) {
+                    break;
+                }
+                lastSequence = record.sequence();
+                position += RECORD_BYTES;
+            }
+
+            if (position < chunkBytes) {
+                this.chunk = current;
+                break;
+            }
+            index++;
+        }
+
+        // 끊긴 기록과 그 뒤에 남은 기록이 새 기록과 섞이지 않도록 지움
+        byte[] empty = new byte[RECORD_BYTES];
+        for (int offset = position; offset < chunkBytes && chunk.getLong(offset) != 0L; offset += RECORD_BYTES) {
+            chunk.put(offset, empty);
+        }
+        channel.truncate((index + 1) * chunkBytes);
+        this.chunkIndex = index;
+        this.chunkPosition = position;
+        this.appendedSequence = lastSequence;
+    }
+
+    private void nextChunk() {
+        try {
+            if (fsyncPolicy != JournalFsyncPolicy.NONE) {
+                chunk.force();
+            }
+            chunkIndex++;
+            chunk = channel.map(FileChannel.MapMode.READ_WRITE, chunkIndex * chunkBytes, chunkBytes);
+            chunkPosition = 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("포인트 저널 파일을 늘릴 수 없습니다.", ex);
+        }
+    }
+
+    private JournalRecord read(ByteBuffer buffer, int offset) {
+        long sequence = buffer.getLong(offset);
+        if (sequence == 0L) {
+            return null;
+        }
+
+        byte[] bytes = new byte[CHECKSUM_OFFSET];
+        buffer.get(offset, bytes);
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes);
+        if ((int) checksum.getValue() != buffer.getInt(offset + CHECKSUM_OFFSET)) {
+            return null;
+        }
+
+        int typeOrdinal = buffer.get(offset + 40);
+        if (typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+            return null;
+        }
+        return new JournalRecord(
+            sequence,
+            buffer.getLong(offset + 8),
+            buffer.getLong(offset + 16),
+            TYPES[typeOrdinal],
+            buffer.getLong(offset + 24),
+            buffer.getLong(offset + 32)
+        );
+    }
+
+    private void flushOnDemand() {
+        while (running) {
+            flushLock.lock();
+            try {
+                while (appendedSequence <= durableSequence && running) {
+                    pendingFlush.awaitUninterruptibly();
+                }
+            } finally {
+                flushLock.unlock();
+            }
+            flush();
+        }
+    }
+
+    private void flushPeriodically() {
+        while (running) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(fsyncIntervalNanos);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (appendedSequence > durableSequence) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 현재까지 추가된 기록을 한 번에 동기화하고 기다리는 스레드를 깨웁니다.
+     */
+    private void flush() {
+        long target = appendedSequence;
+        try {
+            chunk.force();
+        } catch (RuntimeException ex) {
+            if (running) {
+                log.error("포인트 저널 동기화 실패: " + ex.getMessage());
+            }
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            durableSequence = Math.max(durableSequence, target);
+            durableAdvanced.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
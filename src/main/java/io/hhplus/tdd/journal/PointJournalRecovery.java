@@ -0,0 +1,92 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.snapshot.PointSnapshotter;
+import io.hhplus.tdd.user.UserRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 스냅샷과 포인트 저널로 포인트와 히스토리를 복구합니다.<br>
+ * 웹 서버가 요청을 받기 전(모든 싱글톤 생성 직후)에 실행됩니다.
+ */
+@Component
+@AllArgsConstructor
+@Slf4j
+public class PointJournalRecovery implements SmartInitializingSingleton {
+
+    private final PointJournal pointJournal;
+    private final PointSnapshotter pointSnapshotter;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final UserRegistry userRegistry;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (pointJournal.isEnabled() || pointSnapshotter.isEnabled()) {
+            recover();
+        }
+    }
+
+    /**
+     * 복구<br>
+     * 1. 스냅샷이 있으면 유저별 포인트 복구 후 유저 등록 (스냅샷이 손상되었으면 건너뛰고 저널 전체로 포인트 복구)<br>
+     * 2. 저널 기록을 처음부터 순서대로 읽으며 포인트 히스토리 복구 (잔액 보정 기록은 제외)<br>
+     * 3. 스냅샷이 반영한 순번 이후의 기록은 유저별 마지막 기록만 보관<br>
+     * 4. 유저별 마지막 기록의 잔액으로 포인트를 한 번만 복구<br>
+     * 5. 유저 등록<br>
+     * 6. 복구 건수와 소요 시간 기록<br>
+     * 히스토리는 스냅샷과 관계없이 저널 전체로 복구하므로, 스냅샷을 사용해도 스냅샷 이전의 히스토리와 통계가 유지됩니다.<br>
+     * 포인트와 히스토리는 테이블 쓰기 지연 없이 저장소에 바로 복구합니다. (ConcurrentUserPointTable, ColumnarPointHistoryTable)
+     * @return 재생한 저널 기록 수
+     */
+    public long recover() {
+        long startedAt = System.nanoTime();
+
+        long snapshotSequence = 0L;
+        int[] snapshotUsers = {0};
+        if (pointSnapshotter.isEnabled()) {
+            try {
+                snapshotSequence = pointSnapshotter.load((userId, point, updateMillis) -> {
+                    userPointCache.restore(userId, point, updateMillis);
+                    userRegistry.register(userId);
+                    snapshotUsers[0]++;
+                });
+            } catch (UncheckedIOException ex) {
+                log.error("포인트 스냅샷을 건너뛰고 저널 전체로 포인트를 복구합니다: " + ex.getMessage());
+            }
+        }
+
+        if (snapshotSequence > pointJournal.lastSequence()) {
+            log.warn("스냅샷의 저널 순번({})이 저널의 마지막 순번({})보다 큽니다.", snapshotSequence, pointJournal.lastSequence());
+        }
+
+        long balanceSequence = snapshotSequence;
+        Map<Long, JournalRecord> lastRecords = new HashMap<>();
+        long recordCount = pointJournal.replay(record -> {
+            if (!record.isBalanceCorrection()) {
+                pointHistoryIndex.restore(record.userId(), record.amount(), record.transactionType(), record.updateMillis());
+            }
+            if (record.sequence() > balanceSequence) {
+                lastRecords.put(record.userId(), record);
+            }
+        });
+
+        for (JournalRecord record : lastRecords.values()) {
+            userPointCache.restore(record.userId(), record.balance(), record.updateMillis());
+            userRegistry.register(record.userId());
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("포인트 복구 완료: 스냅샷 유저 {}명(저널 순번 {}), 저널 기록 {}건, 스냅샷 이후 유저 {}명, {}ms",
+            snapshotUsers[0], snapshotSequence, recordCount, lastRecords.size(), elapsedMillis);
+        return recordCount;
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.lock;
+
+import java.util.List;
+
+/**
+ * 락 경합 진단 결과
+ * @param byQueueLength 현재 대기 스레드가 많은 유저 순
+ * @param byWaitTime 최근 누적 대기 시간이 긴 유저 순
+ * @param liveLockCount 현재 유지 중인 락 개수
+ * @param stripeCollisionCount 다른 유저 때문에 대기한 횟수 (STRIPED 테이블)
+ */
+public record LockContentionReport(
+    List<UserLockContention> byQueueLength,
+    List<UserLockContention> byWaitTime,
+    int liveLockCount,
+    long stripeCollisionCount
+) {
+}
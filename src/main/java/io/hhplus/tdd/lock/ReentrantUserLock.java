@@ -0,0 +1,27 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ReentrantUserLock implements UserLock {
+
+    private final ReentrantLock lock;
+
+    public ReentrantUserLock(boolean fair) {
+        this.lock = new ReentrantLock(fair);
+    }
+
+    @Override
+    public void lock() {
+        lock.lock();
+    }
+
+    @Override
+    public void unlock() {
+        lock.unlock();
+    }
+
+    @Override
+    public int getQueueLength() {
+        return lock.getQueueLength();
+    }
+}
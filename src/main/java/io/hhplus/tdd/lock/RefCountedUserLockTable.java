@@ -0,0 +1,126 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 락을 참조 카운트로 관리하는 락 테이블입니다.<br>
+ * 락을 획득하려는 스레드가 있는 동안만 유지하고, 마지막 스레드가 해제하면 제거하므로 사용 중인 유저 수만큼만 메모리를 사용합니다.
+ */
+class RefCountedUserLockTable implements UserLockTable {
+
+    private final UserLockStrategy userLockStrategy;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    RefCountedUserLockTable(UserLockStrategy userLockStrategy) {
+        this.userLockStrategy = userLockStrategy;
+    }
+
+    @Override
+    public UserLock getUserLock(long userId) {
+        return new RefCountedLock(userId);
+    }
+
+    @Override
+    public int liveLockCount() {
+        return entries.size();
+    }
+
+    @Override
+    public long collisionCount() {
+        return 0;
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        Entry entry = entries.get(userId);
+        return entry == null ? 0 : entry.lock.getQueueLength();
+    }
+
+    /**
+     * 참조 카운트 증가<br>
+     * 1. 유저의 락이 없으면 참조 카운트 1로 생성해서 추가<br>
+     * 2. 있으면 참조 카운트를 compareAndSet으로 증가 (0이면 제거 중인 락이므로 제거를 돕고 1부터 다시 시도)<br>
+     * 자주 요청되는 유저는 락이 계속 유지되므로 ConcurrentHashMap의 버킷 락(synchronized) 없이 조회와 compareAndSet만 수행하고,
+     * 가상 스레드가 모니터 진입을 기다리며 캐리어 스레드를 고정하지 않습니다.
+     */
+    private Entry retain(long userId) {
+        while (true) {
+            Entry current = entries.get(userId);
+            if (current == null) {
+                Entry created = new Entry(userLockStrategy.newLock());
+                if (entries.putIfAbsent(userId, created) == null) {
+                    return created;
+                }
+                continue;
+            }
+
+            int references = current.references.get();
+            if (references == 0) {
+                entries.remove(userId, current);
+                continue;
+            }
+            if (current.references.compareAndSet(references, references + 1)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 참조 카운트 감소 (마지막 참조였으면 제거하며, 한 번 0이 된 락은 다시 사용하지 않음)
+     */
+    private void release(long userId, Entry entry) {
+        if (entry.references.decrementAndGet() == 0) {
+            entries.remove(userId, entry);
+        }
+    }
+
+    private static class Entry {
+        private final UserLock lock;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Entry(UserLock lock) {
+            this.lock = lock;
+        }
+    }
+
+    private class RefCountedLock implements UserLock {
+        private final long userId;
+        private Entry entry;
+
+        private RefCountedLock(long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void lock() {
+            Entry acquired = retain(userId);
+            acquired.lock.lock();
+            entry = acquired;
+        }
+
+        @Override
+        public void unlock() {
+            Entry released = entry;
+            entry = null;
+            released.lock.unlock();
+            release(userId, released);
+        }
+
+        @Override
+        public <T> T read(Supplier<T> reader) {
+            Entry reading = retain(userId);
+            try {
+                return reading.lock.read(reader);
+            } finally {
+                release(userId, reading);
+            }
+        }
+
+        @Override
+        public int getQueueLength() {
+            return queueLength(userId);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.lock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 가중치가 큰 키를 고정된 메모리로 추적하는 Space-Saving 스케치입니다.<br>
+ * 최대 capacity 개의 키만 유지하고, 자리가 없으면 가중치가 가장 작은 키를 새 키로 교체합니다.
+ * 교체된 키는 이전 가중치를 물려받으므로 추정치는 실제보다 크거나 같고, 그 차이는 error 이하입니다.<br>
+ * 최근 구간을 반영하도록 decayIntervalNanos 마다 모든 가중치를 절반으로 줄입니다.<br>
+ * 교체할 키를 찾기 위해 카운터를 가중치 기준 최소 힙으로도 관리하므로, 추가 비용은 capacity의 로그에 비례합니다.
+ */
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final long decayIntervalNanos;
+    private final HashMap<Long, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastDecayNanos = System.nanoTime();
+
+    SpaceSavingSketch(int capacity, long decayIntervalNanos) {
+        this.capacity = capacity;
+        this.decayIntervalNanos = decayIntervalNanos;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    void add(long key, long weight) {
+        lock.lock();
+        try {
+            decayIfDue();
+
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                counter.count += weight;
+                siftDown(counter.index);
+                return;
+            }
+
+            if (size < capacity) {
+                Counter created = new Counter(key, weight, 0);
+                counters.put(key, created);
+                place(created, size++);
+                siftUp(created.index);
+                return;
+            }
+
+            Counter min = heap[0];
+            counters.remove(min.key);
+            Counter replaced = new Counter(key, min.count + weight, min.count);
+            counters.put(key, replaced);
+            place(replaced, 0);
+            siftDown(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param limit 최대 반환 개수
+     * @return 추정 가중치가 큰 순서대로 정렬된 키 목록
+     */
+    List<Estimate> top(int limit) {
+        List<Estimate> estimates = new ArrayList<>();
+        lock.lock();
+        try {
+            decayIfDue();
+            for (Counter counter : counters.values()) {
+                estimates.add(new Estimate(counter.key, counter.count, counter.error));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed());
+        return estimates.size() > limit ? estimates.subList(0, limit) : estimates;
+    }
+
+    private void decayIfDue() {
+        long now = System.nanoTime();
+        if (now - lastDecayNanos < decayIntervalNanos) {
+            return;
+        }
+        lastDecayNanos = now;
+
+        // 모두 절반으로 줄여도 가중치 순서는 유지되지만, 0이 되어 제거된 카운터를 빼고 힙을 다시 구성
+        int remaining = 0;
+        for (int i = 0; i < size; i++) {
+            Counter counter = heap[i];
+            counter.count >>= 1;
+            counter.error >>= 1;
+            if (counter.count == 0) {
+                counters.remove(counter.key);
+            } else {
+                place(counter, remaining++);
+            }
+        }
+        Arrays.fill(heap, remaining, size, null);
+        size = remaining;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    record Estimate(long key, long count, long error) {
+    }
+
+    private static class Counter {
+        private final long key;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(long key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * StampedLock 기반 유저 락입니다.<br>
+ * 조회는 낙관적 읽기로 처리하고, 조회 중에 쓰기가 있었다면 읽기 락을 획득한 후 다시 조회합니다.<br>
+ * StampedLock은 재진입을 지원하지 않으므로 같은 스레드에서 중첩해서 획득하면 안 됩니다.
+ */
+public class StampedUserLock implements UserLock {
+
+    private final StampedLock lock = new StampedLock();
+
+    // StampedLock은 대기 스레드 수를 제공하지 않으므로 쓰기 락 획득 중인 스레드 수를 직접 센다
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    // 쓰기 락을 획득한 스레드만 읽고 쓰므로 별도 동기화가 필요 없음
+    private long writeStamp;
+
+    @Override
+    public void lock() {
+        waiting.incrementAndGet();
+        try {
+            writeStamp = lock.writeLock();
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void unlock() {
+        lock.unlockWrite(writeStamp);
+    }
+
+    @Override
+    public int getQueueLength() {
+        return waiting.get();
+    }
+
+    @Override
+    public <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            T value = reader.get();
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 고정 개수의 락을 유저 ID 해시로 나눠 사용하는 락 테이블입니다.<br>
+ * 메모리 사용량은 락 개수로 고정되지만, 같은 락을 쓰는 다른 유저끼리 경합할 수 있습니다. (stripe collision)
+ */
+class StripedUserLockTable implements UserLockTable {
+
+    private static final long NO_OWNER = Long.MIN_VALUE;
+
+    private final UserLock[] stripes;
+    private final AtomicLongArray owners;
+    private final int mask;
+    private final LongAdder collisionCount = new LongAdder();
+
+    StripedUserLockTable(int stripeCount, UserLockStrategy userLockStrategy) {
+        int size = Integer.highestOneBit(Math.max(2, stripeCount) - 1) << 1;
+        this.stripes = new UserLock[size];
+        this.owners = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            stripes[i] = userLockStrategy.newLock();
+            owners.set(i, NO_OWNER);
+        }
+    }
+
+    @Override
+    public UserLock getUserLock(long userId) {
+        return new StripeLock(userId, stripeIndex(userId));
+    }
+
+    @Override
+    public int liveLockCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public long collisionCount() {
+        return collisionCount.sum();
+    }
+
+    /**
+     * 같은 락을 쓰는 다른 유저의 대기 스레드도 포함됩니다.
+     */
+    @Override
+    public int queueLength(long userId) {
+        return stripes[stripeIndex(userId)].getQueueLength();
+    }
+
+    int stripeIndex(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private class StripeLock implements UserLock {
+        private final long userId;
+        private final int index;
+
+        private StripeLock(long userId, int index) {
+            this.userId = userId;
+            this.index = index;
+        }
+
+        @Override
+        public void lock() {
+            // fair 락의 획득 순서를 깨지 않도록 tryLock 대신 현재 소유 유저로 충돌 여부를 판단
+            long owner = owners.get(index);
+            if (owner != NO_OWNER && owner != userId) {
+                collisionCount.increment();
+            }
+            stripes[index].lock();
+            owners.set(index, userId);
+        }
+
+        @Override
+        public void unlock() {
+            owners.set(index, NO_OWNER);
+            stripes[index].unlock();
+        }
+
+        @Override
+        public <T> T read(Supplier<T> reader) {
+            return stripes[index].read(reader);
+        }
+
+        @Override
+        public int getQueueLength() {
+            return stripes[index].getQueueLength();
+        }
+    }
+}
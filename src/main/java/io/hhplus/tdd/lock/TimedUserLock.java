@@ -0,0 +1,62 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 락 획득 대기 시간과 점유 시간을 기록하는 UserLock입니다.<br>
+ * 일정 시간 이상 기다린 획득은 경합 스케치에도 유저별로 기록합니다.<br>
+ * 스케치는 모든 유저가 함께 쓰므로, 대기 시간은 해제한 후에 기록해서 유저 락을 잡은 채로 스케치를 기다리지 않도록 합니다.<br>
+ * getUserLock 호출마다 새로 만들어 한 스레드에서만 사용하므로, 획득 시각을 필드에 보관해도 안전합니다.
+ */
+class TimedUserLock implements UserLock {
+
+    // 이보다 짧은 대기는 경합 없이 바로 획득한 것으로 보고 스케치에 기록하지 않음
+    static final long CONTENDED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final UserLock delegate;
+    private final long userId;
+    private final PointMetrics pointMetrics;
+    private final SpaceSavingSketch waitSketch;
+    private long acquiredNanos;
+    private long waitNanos;
+
+    TimedUserLock(UserLock delegate, long userId, PointMetrics pointMetrics, SpaceSavingSketch waitSketch) {
+        this.delegate = delegate;
+        this.userId = userId;
+        this.pointMetrics = pointMetrics;
+        this.waitSketch = waitSketch;
+    }
+
+    @Override
+    public void lock() {
+        long startNanos = System.nanoTime();
+        delegate.lock();
+        acquiredNanos = System.nanoTime();
+        waitNanos = acquiredNanos - startNanos;
+    }
+
+    @Override
+    public void unlock() {
+        long heldNanos = System.nanoTime() - acquiredNanos;
+        delegate.unlock();
+
+        pointMetrics.recordLockWait(waitNanos);
+        pointMetrics.recordLockHold(heldNanos);
+        if (waitNanos >= CONTENDED_WAIT_NANOS) {
+            waitSketch.add(userId, waitNanos);
+        }
+    }
+
+    @Override
+    public <T> T read(Supplier<T> reader) {
+        return delegate.read(reader);
+    }
+
+    @Override
+    public int getQueueLength() {
+        return delegate.getQueueLength();
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.lock;
+
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위 락
+ * 획득한 스레드가 반드시 unlock 해야 합니다.
+ */
+public interface UserLock {
+
+    void lock();
+
+    void unlock();
+
+    /**
+     * 락을 획득하지 않고 조회합니다.<br>
+     * 읽기 일관성을 지원하는 락은 쓰기와 겹치지 않은 조회 결과를 반환하도록 재정의합니다.
+     * @param reader 조회 작업
+     * @return 조회 결과
+     */
+    default <T> T read(Supplier<T> reader) {
+        return reader.get();
+    }
+
+    /**
+     * @return 락 획득을 기다리는 스레드 수 (추정치, 진단 용도)
+     */
+    default int getQueueLength() {
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저별 락 경합 현황
+ * @param userId 유저 ID
+ * @param queueLength 현재 락 획득을 기다리는 스레드 수
+ * @param recentWaitMillis 최근 누적 대기 시간 추정치
+ * @param waitErrorMillis 대기 시간 추정치의 최대 오차
+ */
+public record UserLockContention(long userId, int queueLength, long recentWaitMillis, long waitErrorMillis) {
+}
@@ -1,16 +1,85 @@
 package io.hhplus.tdd.lock;
 
+import io.hhplus.tdd.config.UserLockPolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class UserLockManager {
-    private ConcurrentHashMap<Long, ReentrantLock> userLockMap = new ConcurrentHashMap<>();
 
-    public ReentrantLock getUserLock(Long userId) {
-        return userLockMap.computeIfAbsent(userId, lock -> new ReentrantLock(true));
+    // 경합 유저 추적 개수와 최근 구간 (가중치를 절반으로 줄이는 주기)
+    private static final int CONTENTION_SKETCH_CAPACITY = 256;
+    private static final long CONTENTION_DECAY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final UserLockTable userLockTable;
+    private final PointMetrics pointMetrics;
+    private final SpaceSavingSketch waitSketch = new SpaceSavingSketch(CONTENTION_SKETCH_CAPACITY, CONTENTION_DECAY_NANOS);
+
+    public UserLockManager(UserLockPolicy userLockPolicy, PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+        UserLockStrategy userLockStrategy = userLockPolicy.strategy();
+        this.userLockTable = switch (userLockPolicy.table()) {
+            case STRIPED -> new StripedUserLockTable(userLockPolicy.stripes(), userLockStrategy);
+            case REF_COUNTED -> new RefCountedUserLockTable(userLockStrategy);
+        };
+    }
+
+    /**
+     * 유저 락 조회<br>
+     * 반환된 락은 한 스레드에서 lock/unlock 한 쌍 또는 read로만 사용합니다.<br>
+     * lock/unlock 사이의 대기 시간과 점유 시간은 지표로 기록됩니다.
+     * @param userId 유저 ID
+     * @return 유저 락
+     */
+    public UserLock getUserLock(Long userId) {
+        return new TimedUserLock(userLockTable.getUserLock(userId), userId, pointMetrics, waitSketch);
+    }
+
+    /**
+     * @return 현재 메모리에 유지 중인 락 개수
+     */
+    public int liveLockCount() {
+        return userLockTable.liveLockCount();
     }
 
+    /**
+     * @return 다른 유저가 잡고 있는 락 때문에 대기한 횟수 (STRIPED 테이블에서만 발생)
+     */
+    public long stripeCollisionCount() {
+        return userLockTable.collisionCount();
+    }
+
+    /**
+     * 락 경합 진단<br>
+     * 1. 최근 대기 시간이 긴 유저를 스케치에서 조회 (유저 수와 무관하게 고정 메모리)<br>
+     * 2. 스케치가 추적 중인 유저마다 현재 대기 스레드 수 조회<br>
+     * 3. 대기 스레드 수 순, 대기 시간 순으로 각각 상위 limit 명 반환<br>
+     * 최근에 경합한 적 없는 유저는 대기 스레드 수 순위에도 나타나지 않습니다.
+     * @param limit 순위별 최대 유저 수
+     * @return 락 경합 진단 결과
+     */
+    public LockContentionReport contention(int limit) {
+        List<UserLockContention> candidates = waitSketch.top(CONTENTION_SKETCH_CAPACITY).stream()
+            .map(estimate -> new UserLockContention(
+                estimate.key(),
+                userLockTable.queueLength(estimate.key()),
+                TimeUnit.NANOSECONDS.toMillis(estimate.count()),
+                TimeUnit.NANOSECONDS.toMillis(estimate.error())))
+            .toList();
+
+        List<UserLockContention> byQueueLength = candidates.stream()
+            .filter(contention -> contention.queueLength() > 0)
+            .sorted(Comparator.comparingInt(UserLockContention::queueLength).reversed())
+            .limit(limit)
+            .toList();
+        List<UserLockContention> byWaitTime = candidates.stream()
+            .limit(limit)
+            .toList();
+
+        return new LockContentionReport(byQueueLength, byWaitTime, liveLockCount(), stripeCollisionCount());
+    }
 }
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저 락 생성 전략
+ * 락 테이블은 유저(또는 스트라이프)마다 이 전략으로 락을 생성합니다.
+ */
+@FunctionalInterface
+public interface UserLockStrategy {
+
+    UserLock newLock();
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저 락 생성 전략 종류
+ * - FAIR : 오래 기다린 스레드부터 획득하는 ReentrantLock (경합 시 처리량 감소)
+ * - UNFAIR : 획득 순서를 보장하지 않는 ReentrantLock (경합 시 처리량 우선)
+ * - STAMPED : StampedLock, 포인트 조회는 낙관적 읽기로 처리
+ */
+public enum UserLockStrategyType implements UserLockStrategy {
+    FAIR {
+        @Override
+        public UserLock newLock() {
+            return new ReentrantUserLock(true);
+        }
+    },
+    UNFAIR {
+        @Override
+        public UserLock newLock() {
+            return new ReentrantUserLock(false);
+        }
+    },
+    STAMPED {
+        @Override
+        public UserLock newLock() {
+            return new StampedUserLock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.lock;
+
+interface UserLockTable {
+
+    UserLock getUserLock(long userId);
+
+    int liveLockCount();
+
+    long collisionCount();
+
+    /**
+     * 락을 새로 만들거나 유지하지 않고 현재 대기 스레드 수만 조회합니다.
+     */
+    int queueLength(long userId);
+}
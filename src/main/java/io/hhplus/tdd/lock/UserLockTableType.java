@@ -0,0 +1,10 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저 락 테이블 종류
+ * - STRIPED : 고정 개수의 락을 유저 ID 해시로 나눠 사용 (메모리 고정, 다른 유저와 락을 공유할 수 있음)
+ * - REF_COUNTED : 유저별 락을 사용 중일 때만 유지하고, 아무도 사용하지 않으면 제거
+ */
+public enum UserLockTableType {
+    STRIPED, REF_COUNTED
+}
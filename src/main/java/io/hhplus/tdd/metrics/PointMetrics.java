@@ -0,0 +1,121 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.database.UserPointCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 처리 구간별 지표를 기록합니다.<br>
+ * 미터는 생성 시점에 한 번만 등록하고, 기록할 때는 등록된 미터에 나노초 값만 전달합니다.
+ * - point.lock.wait / point.lock.hold : 유저 락 획득 대기 시간 / 점유 시간
+ * - point.table.latency : 테이블 호출 시간 (table, operation 태그)
+ * - point.history.failures : 기록하지 못한 포인트 히스토리 수
+ * - point.limit.rejections : 포인트 정책으로 거절된 요청 수 (limit 태그)
+ * - point.cas.retries : CAS 모드에서 다른 요청과 겹쳐 다시 계산한 횟수
+ * - point.cache.gets / point.cache.size : 유저 포인트 캐시 조회 수 (result 태그: hit, miss) / 캐시된 유저 수
+ * - point.shard.queue.depth : SHARDED 모드의 샤드별 실행 대기 중인 작업 수 (shard 태그)
+ */
+@Component
+public class PointMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer userPointSelect;
+    private final Timer userPointUpdate;
+    private final Timer historyInsert;
+    private final Counter historyFailures;
+    private final Counter maxLimitRejections;
+    private final Counter minLimitRejections;
+    private final Counter casRetries;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWait = Timer.builder("point.lock.wait").register(meterRegistry);
+        this.lockHold = Timer.builder("point.lock.hold").register(meterRegistry);
+        this.userPointSelect = tableTimer(meterRegistry, "user_point", "select_by_id");
+        this.userPointUpdate = tableTimer(meterRegistry, "user_point", "insert_or_update");
+        this.historyInsert = tableTimer(meterRegistry, "point_history", "insert");
+        this.historyFailures = Counter.builder("point.history.failures").register(meterRegistry);
+        this.maxLimitRejections = Counter.builder("point.limit.rejections").tag("limit", "max").register(meterRegistry);
+        this.minLimitRejections = Counter.builder("point.limit.rejections").tag("limit", "min").register(meterRegistry);
+        this.casRetries = Counter.builder("point.cas.retries").register(meterRegistry);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserPointSelect(long nanos) {
+        userPointSelect.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserPointUpdate(long nanos) {
+        userPointUpdate.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistoryInsert(long nanos) {
+        historyInsert.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incrementHistoryFailure() {
+        historyFailures.increment();
+    }
+
+    public void incrementMaxLimitRejection() {
+        maxLimitRejections.increment();
+    }
+
+    public void incrementMinLimitRejection() {
+        minLimitRejections.increment();
+    }
+
+    public void incrementCasRetry() {
+        casRetries.increment();
+    }
+
+    /**
+     * 유저 포인트 캐시의 조회 수와 크기를 미터로 등록합니다.<br>
+     * 캐시가 직접 세는 값을 조회할 때 읽으므로, 조회 경로에서 미터를 따로 갱신하지 않습니다.
+     * @param userPointCache 유저 포인트 캐시
+     */
+    public void registerUserPointCache(UserPointCache userPointCache) {
+        FunctionCounter.builder("point.cache.gets", userPointCache, UserPointCache::hitCount)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("point.cache.gets", userPointCache, UserPointCache::missCount)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("point.cache.size", userPointCache, UserPointCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 샤드의 실행 대기 큐 크기를 샤드별 게이지로 등록합니다.
+     * @param shard 샤드 번호
+     * @param queue 샤드의 실행 대기 큐
+     */
+    public void registerShardQueue(int shard, Collection<?> queue) {
+        Gauge.builder("point.shard.queue.depth", queue, Collection::size)
+            .tag("shard", String.valueOf(shard))
+            .register(meterRegistry);
+    }
+
+    private static Timer tableTimer(MeterRegistry meterRegistry, String table, String operation) {
+        return Timer.builder("point.table.latency")
+            .tag("table", table)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+}
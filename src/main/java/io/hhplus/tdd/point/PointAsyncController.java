@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * PointController의 비동기 버전입니다.<br>
+ * 요청 스레드를 락 대기 동안 점유하지 않고, 작업이 끝나면 응답합니다.<br>
+ * 충전/사용은 응답 대기 시간(spring.mvc.async.request-timeout)을 두지 않고 반영이 끝나면 응답합니다.
+ * 시간 초과로 응답한 요청이 나중에 반영되어 재시도가 두 번 충전/사용되지 않도록 하기 위함입니다.
+ */
+@RestController
+@RequestMapping("/async/point")
+@AllArgsConstructor
+@Validated
+public class PointAsyncController {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private final PointAsyncService pointAsyncService;
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+        @PathVariable(value = "id") @Positive(message = "유저 Id는 양수여야 합니다.") long id
+    ) {
+        return pointAsyncService.getUserPoint(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+        @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id
+    ) {
+        return pointAsyncService.listPointHistory(id);
+    }
+
+    /**
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도한 요청은 다시 충전하지 않고 처음 결과를 반환합니다.
+     */
+    @PatchMapping("{id}/charge")
+    public DeferredResult<UserPoint> charge(
+        @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+        @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.") String idempotencyKey,
+        @Valid @RequestBody ChargeUserPointRequestDto request
+    ) {
+        return withoutTimeout(pointAsyncService.chargeUserPoint(id, idempotencyKey, request));
+    }
+
+    /**
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도한 요청은 다시 사용하지 않고 처음 결과를 반환합니다.
+     */
+    @PatchMapping("{id}/use")
+    public DeferredResult<UserPoint> use(
+        @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+        @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.") String idempotencyKey,
+        @Valid @RequestBody UseUserPointRequestDto request
+    ) {
+        return withoutTimeout(pointAsyncService.useUserPoint(id, idempotencyKey, request));
+    }
+
+    /**
+     * 응답 대기 시간이 없는(-1) DeferredResult로 결과를 전달합니다. (CompletableFuture 반환과 같이 CompletionException은 원인으로 전달)
+     */
+    private <T> DeferredResult<T> withoutTimeout(CompletableFuture<T> future) {
+        DeferredResult<T> deferredResult = new DeferredResult<>(-1L);
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                deferredResult.setResult(result);
+            } else {
+                deferredResult.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }
+        });
+        return deferredResult;
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointAsyncPolicy;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * PointService의 비동기 API 입니다.<br>
+ * 락 대기와 테이블 지연이 있는 작업을 가상 스레드에서 실행하므로, 요청 스레드는 바로 컨테이너로 반환됩니다.<br>
+ * 조회는 제한 시간 안에 끝나지 않으면 TimeoutException으로 완료됩니다. (이미 시작된 조회는 취소되지 않음)<br>
+ * 충전/사용은 제한 시간을 두지 않습니다. 응답하지 않은 요청이 나중에 반영되면, 실패 응답을 받고 재시도한 클라이언트는 두 번 충전/사용되기 때문입니다.
+ * Idempotency-Key를 주면 동기 API와 같이 PointIdempotencyCache를 거쳐 같은 키의 재시도를 한 번만 반영합니다.
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final PointIdempotencyCache pointIdempotencyCache;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PointAsyncService(PointService pointService, PointIdempotencyCache pointIdempotencyCache, PointAsyncPolicy pointAsyncPolicy) {
+        this.pointService = pointService;
+        this.pointIdempotencyCache = pointIdempotencyCache;
+        this.timeout = pointAsyncPolicy.timeout();
+    }
+
+    public CompletableFuture<UserPoint> getUserPoint(long id) {
+        return supply(() -> pointService.getUserPoint(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> listPointHistory(long id) {
+        return supply(() -> pointService.listPointHistory(id));
+    }
+
+    /**
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     */
+    public CompletableFuture<UserPoint> chargeUserPoint(long id, String idempotencyKey, ChargeUserPointRequestDto request) {
+        return apply(id, idempotencyKey, TransactionType.CHARGE, request.getAmount(), () -> pointService.chargeUserPoint(id, request));
+    }
+
+    /**
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     */
+    public CompletableFuture<UserPoint> useUserPoint(long id, String idempotencyKey, UseUserPointRequestDto request) {
+        return apply(id, idempotencyKey, TransactionType.USE, request.getAmount(), () -> pointService.useUserPoint(id, request));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor)
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private CompletableFuture<UserPoint> apply(long id, String idempotencyKey, TransactionType type, long amount, Supplier<UserPoint> action) {
+        if (idempotencyKey == null) {
+            return CompletableFuture.supplyAsync(action, executor);
+        }
+        return CompletableFuture.supplyAsync(() -> pointIdempotencyCache.execute(id, idempotencyKey, type, amount, action), executor);
+    }
+}
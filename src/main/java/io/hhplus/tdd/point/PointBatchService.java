@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointBatchPolicy;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 유저의 포인트 충전/사용 작업을 유저별로 묶어 처리합니다.<br>
+ * 같은 유저의 작업은 한 번의 락 획득 안에서 요청 순서대로 처리하고, 서로 다른 유저의 작업은 병렬로 처리합니다.
+ */
+@Service
+public class PointBatchService {
+
+    private final PointService pointService;
+    private final ExecutorService executor;
+
+    public PointBatchService(PointService pointService, PointBatchPolicy pointBatchPolicy) {
+        this.pointService = pointService;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(pointBatchPolicy.parallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 포인트 일괄 충전/사용<br>
+     * 1. 요청 순서를 유지하며 유저별로 작업 분류<br>
+     * 2. 유저별 작업 목록을 병렬로 처리<br>
+     * 3. 요청 순서대로 작업별 결과 반환<br>
+     * @param operations 작업 목록
+     * @return 작업별 결과 (요청 순서)
+     */
+    public List<PointOperationResult> applyBatch(List<PointOperation> operations) {
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        CompletableFuture<?>[] futures = indexesByUser.entrySet().stream()
+            .map(entry -> CompletableFuture.runAsync(() -> applyUserOperations(entry.getKey(), entry.getValue(), operations, results), executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void applyUserOperations(long userId, List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results) {
+        List<PointOperation> userOperations = indexes.stream()
+            .map(operations::get)
+            .toList();
+
+        List<PointOperationResult> userResults;
+        try {
+            userResults = pointService.applyUserOperations(userId, userOperations);
+        } catch (RuntimeException ex) {
+            userResults = userOperations.stream()
+                .map(operation -> PointOperationResult.failure(operation, ex.getMessage()))
+                .toList();
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = userResults.get(i);
+        }
+    }
+}
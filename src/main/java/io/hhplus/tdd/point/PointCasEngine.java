@@ -0,0 +1,409 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.user.UserRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * CAS 모드에서 유저별 포인트를 원자적 셀에 두고 compareAndSet으로 충전/사용합니다.<br>
+ * 셀에는 [포인트, 버전]을 담은 불변 객체를 두고, 새 포인트 계산과 포인트 정책 검사를 마친 셀로 compareAndSet 합니다.
+ * 다른 스레드가 먼저 바꿨으면 바뀐 셀로 다시 계산합니다.<br>
+ * 셀마다 이전 셀의 반영 결과를 가리키는 반영 결과를 함께 두고, 유저별로 한 스레드만 아직 내보내지 않은 반영 결과를 버전 순서대로
+ * 테이블 갱신, 저널 기록, 히스토리 추가로 내보냅니다. 따라서 히스토리 순서대로 다시 계산하면 셀의 포인트와 같아집니다.<br>
+ * 변경 시각은 테이블이 반영한 시각 하나를 저널, 히스토리, 응답에 함께 사용하고, 조회는 내보내기를 마친 포인트만 반환합니다.<br>
+ * 셀 변경에는 락이 없지만, 요청은 자신의 버전을 내보낼 때까지 버전별 future에서 기다립니다.<br>
+ * 셀은 유저 포인트 캐시와 같은 최대 유저 수까지 보관하고, 넘으면 내보낼 반영 결과가 없는 유저부터 제거합니다.
+ */
+@Component
+@Slf4j
+public class PointCasEngine {
+
+    /**
+     * 제거된 유저의 셀 (이 셀을 읽은 요청은 유저 셀을 다시 찾음)
+     */
+    private static final Cell RETIRED = new Cell(0L, -1L, null, null);
+
+    private final boolean enabled;
+    private final UserPointCache userPointCache;
+    private final PointLimitChecker pointLimitChecker;
+    private final PointHistoryAppender pointHistoryAppender;
+    private final PointJournal pointJournal;
+    private final UserRegistry userRegistry;
+    private final PointMetrics pointMetrics;
+    private final int maximumUsers;
+    private final ConcurrentHashMap<Long, CasUser> users = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 유저 포인트 셀
+     * @param thawed null이 아니면 얼린 셀이므로 변경하지 않고, 녹일 때 완료되는 이 future를 기다림
+     * @param emission 이 버전의 반영 결과 (아직 내보내지 않은 이전 버전과 연결됨)
+     */
+    private record Cell(long point, long version, CompletableFuture<Void> thawed, Emission emission) {
+
+        private boolean frozen() {
+            return thawed != null;
+        }
+    }
+
+    /**
+     * 내보낼 반영 결과<br>
+     * previous는 내보낸 후 끊어서, 내보낸 반영 결과가 셀에 계속 연결되어 남지 않도록 합니다.<br>
+     * emitted는 이 버전을 내보내면 완료되고, 내보내지 못했으면 실패 원인으로 완료됩니다.<br>
+     * result는 테이블에 반영된 유저 포인트로, emitted를 완료하기 전에 채웁니다.
+     */
+    private static final class Emission {
+        private final PointOperation operation;
+        private final long point;
+        private final long version;
+        private final CompletableFuture<Void> emitted = new CompletableFuture<>();
+        private Emission previous;
+        private UserPoint result;
+
+        private Emission(PointOperation operation, long point, long version, Emission previous) {
+            this.operation = operation;
+            this.point = point;
+            this.version = version;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * emitted는 마지막으로 내보낸 (또는 테이블에서 읽은) 유저 포인트로, 조회는 셀 대신 이 값을 반환합니다.
+     */
+    private static final class CasUser {
+        private final AtomicReference<Cell> cell;
+        private final AtomicBoolean emitting = new AtomicBoolean();
+        private volatile long emittedVersion;
+        private volatile UserPoint emitted;
+
+        private CasUser(UserPoint userPoint) {
+            this.cell = new AtomicReference<>(new Cell(userPoint.point(), 0L, null, null));
+            this.emitted = userPoint;
+        }
+    }
+
+    public PointCasEngine(PointExecution pointExecution, UserPointCache userPointCache, PointLimitChecker pointLimitChecker,
+                          PointHistoryAppender pointHistoryAppender, PointJournal pointJournal, UserRegistry userRegistry,
+                          PointMetrics pointMetrics, UserPointCachePolicy userPointCachePolicy) {
+        this.enabled = pointExecution.mode() == PointExecutionMode.CAS;
+        this.userPointCache = userPointCache;
+        this.pointLimitChecker = pointLimitChecker;
+        this.pointHistoryAppender = pointHistoryAppender;
+        this.pointJournal = pointJournal;
+        this.userRegistry = userRegistry;
+        this.pointMetrics = pointMetrics;
+        this.maximumUsers = Math.max(1, userPointCachePolicy.maximumSize());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 유저 포인트 조회<br>
+     * 셀에는 아직 내보내지 못한 (실패할 수 있는) 버전이 있을 수 있으므로, 마지막으로 내보낸 유저 포인트를 반환합니다.
+     * @param userId 유저 ID
+     * @return 유저 포인트 현황
+     */
+    public UserPoint get(long userId) {
+        while (true) {
+            CasUser user = userFor(userId);
+            if (user.cell.get() != RETIRED) {
+                return user.emitted;
+            }
+        }
+    }
+
+    /**
+     * 충전/사용<br>
+     * 1. 현재 셀 조회 (다른 스레드가 셀을 얼렸으면 녹을 때까지 대기)<br>
+     * 2. 충전/사용 이후 금액 계산 후 포인트 최대/최소 정책 검사 (실패 시 셀을 바꾸지 않고 예외 발생)<br>
+     * 3. 이전 반영 결과와 연결한 다음 버전의 셀로 compareAndSet, 실패하면 1부터 다시 시도<br>
+     * 4. 아직 내보내지 않은 반영 결과를 버전 순서대로 내보냄 (다른 스레드가 내보내는 중이면 그 스레드가 이어서 내보냄)<br>
+     * 5. 자신의 버전을 내보낼 때까지 기다린 후 테이블에 반영된 유저 포인트 현황 반환 (내보내지 못했으면 예외 발생)<br>
+     * @param operation 충전/사용 요청
+     * @return 반영 이후 유저 포인트 현황
+     */
+    public UserPoint apply(PointOperation operation) {
+        CasUser user = userFor(operation.userId());
+
+        while (true) {
+            Cell current = user.cell.get();
+            if (current == RETIRED) {
+                user = userFor(operation.userId());
+                continue;
+            }
+            if (current.frozen()) {
+                current.thawed().join();
+                continue;
+            }
+
+            UserPoint userPoint = new UserPoint(operation.userId(), current.point(), 0L);
+            long updatePoint;
+            if (operation.type() == TransactionType.CHARGE) {
+                updatePoint = userPoint.chargePoint(operation.amount());
+                pointLimitChecker.checkMaxPointLimit(updatePoint);
+            } else {
+                updatePoint = userPoint.usePoint(operation.amount());
+                pointLimitChecker.checkMinPointLimit(updatePoint);
+            }
+
+            long version = current.version() + 1;
+            Emission emission = new Emission(operation, updatePoint, version, current.emission());
+            if (user.cell.compareAndSet(current, new Cell(updatePoint, version, null, emission))) {
+                emitPending(user);
+                await(emission.emitted);
+                return emission.result;
+            }
+            pointMetrics.incrementCasRetry();
+        }
+    }
+
+    /**
+     * 한 유저의 작업을 요청 순서대로 하나씩 반영합니다. (실패한 작업은 건너뜀)
+     * @param operations 해당 유저의 작업 목록 (요청 순서)
+     * @return 작업별 결과 (요청 순서)
+     */
+    public List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            try {
+                results.add(PointOperationResult.success(operation, apply(operation)));
+            } catch (RuntimeException ex) {
+                results.add(PointOperationResult.failure(operation, ex.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 유저의 충전/사용과 겹치지 않게 작업 실행<br>
+     * 1. 셀을 얼려 이후의 충전/사용이 기다리도록 함<br>
+     * 2. 이미 반영된 버전을 모두 내보낼 때까지 대기 (내보내지 못한 버전은 해당 요청에 실패로 전달됨)<br>
+     * 3. 작업 실행<br>
+     * 4. 작업이 포인트를 바꿨을 수 있으므로 테이블의 포인트로 셀을 다시 채우고 녹임<br>
+     * @param userId 유저 ID
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeExclusively(long userId, Supplier<T> task) {
+        CasUser user = userFor(userId);
+
+        Cell frozen;
+        while (true) {
+            Cell current = user.cell.get();
+            if (current == RETIRED) {
+                user = userFor(userId);
+                continue;
+            }
+            if (current.frozen()) {
+                current.thawed().join();
+                continue;
+            }
+
+            frozen = new Cell(current.point(), current.version(), new CompletableFuture<>(), current.emission());
+            if (user.cell.compareAndSet(current, frozen)) {
+                break;
+            }
+        }
+        emitPending(user);
+        if (frozen.emission() != null) {
+            frozen.emission().emitted.exceptionally(ex -> null).join();
+        }
+
+        try {
+            return task.get();
+        } finally {
+            thaw(user, userPointCache.selectById(userId), frozen);
+        }
+    }
+
+    private void thaw(CasUser user, UserPoint userPoint, Cell frozen) {
+        user.emitted = userPoint;
+        user.cell.set(new Cell(userPoint.point(), frozen.version(), null, null));
+        frozen.thawed().complete(null);
+    }
+
+    /**
+     * 유저 셀 조회<br>
+     * 1. 셀이 있으면 반환<br>
+     * 2. 없으면 맵 밖에서 테이블의 포인트를 읽어 셀 생성<br>
+     * 3. 읽는 동안 제거된 유저가 없을 때만 추가 (제거된 유저가 내보낸 포인트보다 먼저 읽었을 수 있으므로), 아니면 다시 시도<br>
+     * 4. 최대 유저 수를 넘었으면 유휴 유저 제거<br>
+     */
+    private CasUser userFor(long userId) {
+        while (true) {
+            CasUser user = users.get(userId);
+            if (user != null) {
+                return user;
+            }
+
+            long evictions = evictionCount.get();
+            CasUser loaded = new CasUser(userPointCache.selectById(userId));
+            CasUser added = users.compute(userId, (id, existing) ->
+                existing != null ? existing : evictionCount.get() == evictions ? loaded : null);
+            if (added != null) {
+                if (added == loaded && users.size() > maximumUsers) {
+                    evictIdleUsers();
+                }
+                return added;
+            }
+        }
+    }
+
+    /**
+     * 최대 유저 수의 3/4이 될 때까지, 내보낼 반영 결과가 없고 얼리지 않은 유저의 셀을 RETIRED로 바꾼 후 제거합니다.<br>
+     * 제거 횟수를 먼저 올려서, 제거 전에 테이블을 읽은 userFor가 오래된 포인트로 셀을 만들지 않도록 합니다.
+     */
+    private void evictIdleUsers() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int target = maximumUsers - maximumUsers / 4;
+            Iterator<Map.Entry<Long, CasUser>> iterator = users.entrySet().iterator();
+            while (iterator.hasNext() && users.size() > target) {
+                Map.Entry<Long, CasUser> entry = iterator.next();
+                CasUser user = entry.getValue();
+                Cell current = user.cell.get();
+                if (current == RETIRED || current.frozen() || current.version() != user.emittedVersion) {
+                    continue;
+                }
+                if (user.cell.compareAndSet(current, RETIRED)) {
+                    evictionCount.incrementAndGet();
+                    users.remove(entry.getKey(), user);
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 아직 내보내지 않은 반영 결과 내보내기<br>
+     * 1. 유저별로 한 스레드만 내보내도록 하고, 이미 내보내는 스레드가 있으면 반환<br>
+     * 2. 최신 셀의 반영 결과부터 이전 반영 결과를 따라가며 내보내지 않은 것을 모은 후 버전 순서대로 내보내고,
+     *    테이블에 반영된 유저 포인트를 조회 결과로 바꾼 후 버전별 future 완료<br>
+     * 3. 내보내다 실패하면 실패한 버전부터 셀에 반영된 버전까지 모두 실패로 완료하고 셀을 테이블의 포인트로 되돌림<br>
+     * 4. 내보내는 동안 새 버전이 반영되었으면 다시 1부터 수행 (다른 스레드가 1에서 돌아간 경우를 대신 처리)<br>
+     */
+    private void emitPending(CasUser user) {
+        while (user.cell.get().version() > user.emittedVersion) {
+            if (!user.emitting.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                for (Emission emission : pending(user.cell.get(), user.emittedVersion)) {
+                    UserPoint result;
+                    try {
+                        result = emit(emission);
+                    } catch (RuntimeException ex) {
+                        rollback(user, emission, ex);
+                        break;
+                    }
+                    emission.previous = null;
+                    emission.result = result;
+                    user.emitted = result;
+                    user.emittedVersion = emission.version;
+                    emission.emitted.complete(null);
+                }
+            } finally {
+                user.emitting.set(false);
+            }
+        }
+    }
+
+    private static ArrayDeque<Emission> pending(Cell cell, long emittedVersion) {
+        ArrayDeque<Emission> pending = new ArrayDeque<>();
+        for (Emission emission = cell.emission(); emission != null && emission.version > emittedVersion; emission = emission.previous) {
+            pending.push(emission);
+        }
+        return pending;
+    }
+
+    /**
+     * 내보내기 실패 처리<br>
+     * 1. 셀을 얼려 새 버전이 반영되지 않도록 함 (executeExclusively가 이미 얼렸으면 그대로 둠)<br>
+     * 2. 실패한 버전은 원인 예외로, 그 이후 버전은 실패한 버전의 포인트로 계산되었으므로 함께 실패로 완료<br>
+     * 3. 직접 얼렸으면 테이블의 포인트로 셀을 되돌리고 녹임 (executeExclusively가 얼렸으면 작업 후 되돌림)<br>
+     */
+    private void rollback(CasUser user, Emission failed, RuntimeException cause) {
+        log.error("포인트 반영 결과 기록 실패: 유저 " + failed.operation.userId() + ", 버전 " + failed.version + " - " + cause.getMessage());
+
+        Cell frozen;
+        boolean frozenHere;
+        while (true) {
+            Cell current = user.cell.get();
+            if (current.frozen()) {
+                frozen = current;
+                frozenHere = false;
+                break;
+            }
+            frozen = new Cell(current.point(), current.version(), new CompletableFuture<>(), current.emission());
+            if (user.cell.compareAndSet(current, frozen)) {
+                frozenHere = true;
+                break;
+            }
+        }
+
+        RuntimeException skipped = new RuntimeException("앞선 충전/사용을 반영하지 못해 처리되지 않았습니다.", cause);
+        for (Emission emission : pending(frozen, failed.version - 1)) {
+            emission.previous = null;
+            emission.emitted.completeExceptionally(emission == failed ? cause : skipped);
+        }
+        user.emittedVersion = frozen.version();
+
+        if (frozenHere) {
+            thaw(user, userPointCache.selectById(failed.operation.userId()), frozen);
+        }
+    }
+
+    /**
+     * 반영 결과 내보내기<br>
+     * 테이블이 포인트를 반영한 시각을 저널과 히스토리에도 그대로 사용합니다.
+     * @return 테이블에 반영된 유저 포인트
+     */
+    private UserPoint emit(Emission emission) {
+        PointOperation operation = emission.operation;
+        UserPoint userPoint = userPointCache.insertOrUpdate(operation.userId(), emission.point);
+        pointJournal.append(operation.userId(), operation.amount(), operation.type(), emission.point, userPoint.updateMillis());
+        pointHistoryAppender.append(operation.userId(), operation.amount(), operation.type(), userPoint.updateMillis());
+        userRegistry.register(operation.userId());
+        return userPoint;
+    }
+
+    private static void await(CompletableFuture<Void> emitted) {
+        try {
+            emitted.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * COMBINING 모드에서 유저별로 처리 대기 중인 충전/사용 요청을 보관합니다.<br>
+ * 유저 락을 획득한 스레드가 대기 요청을 한 번에 가져가 처리하고, 요청마다 결과를 전달합니다.
+ */
+@Component
+public class PointCombiner {
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, ArrayDeque<PendingOperation>> pendingOperations = new ConcurrentHashMap<>();
+
+    public PointCombiner(PointExecution pointExecution) {
+        this.enabled = pointExecution.mode() == PointExecutionMode.COMBINING;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 처리 대기 요청 추가
+     * @param operation 충전/사용 요청
+     * @return 처리 결과를 전달받을 대기 요청
+     */
+    public PendingOperation enqueue(PointOperation operation) {
+        PendingOperation pendingOperation = new PendingOperation(operation, new CompletableFuture<>());
+        pendingOperations.compute(operation.userId(), (userId, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+            }
+            queue.add(pendingOperation);
+            return queue;
+        });
+        return pendingOperation;
+    }
+
+    /**
+     * 해당 유저의 처리 대기 요청을 도착 순서대로 모두 가져옵니다.
+     * @param userId 유저 ID
+     * @return 처리 대기 요청 목록
+     */
+    public List<PendingOperation> drain(long userId) {
+        List<PendingOperation> drained = new ArrayList<>();
+        pendingOperations.computeIfPresent(userId, (key, queue) -> {
+            drained.addAll(queue);
+            return null;
+        });
+        return drained;
+    }
+
+    public record PendingOperation(
+        PointOperation operation,
+        CompletableFuture<PointOperationResult> result
+    ) {
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        public void complete(PointOperationResult operationResult) {
+            result.complete(operationResult);
+        }
+
+        /**
+         * 처리 결과 반환<br>
+         * 실패한 요청은 단건 처리와 같은 메시지의 예외를 발생시킵니다.
+         * @return 처리 이후 유저 포인트 현황
+         */
+        public UserPoint join() {
+            PointOperationResult operationResult = result.join();
+            if (!operationResult.success()) {
+                throw new RuntimeException(operationResult.message());
+            }
+            return operationResult.userPoint();
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.dto.point.BatchPointRequestDto;
 import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
 import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/point")
@@ -19,7 +31,12 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final int STREAM_PAGE_SIZE = 500;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointIdempotencyCache pointIdempotencyCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -33,33 +50,117 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * after(히스토리 ID) 이후의 내역을 limit 개까지 조회합니다. 다음 페이지는 마지막 내역의 ID를 after로 요청합니다.<br>
+     * from/to(밀리초)를 주면 from 이상 to 미만 시각의 내역을 변경 시각 순으로 limit 개까지 조회합니다. (after와 함께 사용할 수 없음)
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+        @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id,
+        @RequestParam(defaultValue = "0") @PositiveOrZero(message = "after는 0 이상이어야 합니다.") long after,
+        @RequestParam(required = false) @Positive(message = "limit은 양수여야 합니다.")
+        @Max(value = 1000, message = "limit은 1000 이하여야 합니다.") Integer limit,
+        @RequestParam(required = false) @PositiveOrZero(message = "from은 0 이상이어야 합니다.") Long from,
+        @RequestParam(required = false) @PositiveOrZero(message = "to는 0 이상이어야 합니다.") Long to
+    ) {
+        int maxCount = limit == null ? Integer.MAX_VALUE : limit;
+        if (from == null && to == null) {
+            return pointService.listPointHistory(id, after, maxCount);
+        }
+        if (after != 0L) {
+            // 요청 파라미터 조합 오류이므로 @Positive/@Max 위반과 같이 400으로 응답
+            throw new ConstraintViolationException("after와 from/to는 함께 사용할 수 없습니다.", Set.of());
+        }
+        return pointService.listPointHistoryBetween(id, from == null ? 0L : from, to == null ? Long.MAX_VALUE : to, maxCount);
+    }
+
+    /**
+     * 특정 유저의 총 충전/사용 금액, 충전/사용 횟수, 처음/마지막 포인트 변경 시각을 조회합니다.
+     */
+    @GetMapping("{id}/stats")
+    public PointStats stats(
+        @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id
+    ) {
+        return pointService.getPointStats(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON(한 줄에 내역 하나)으로 스트리밍합니다.
+     * 내역을 페이지 단위로 조회하면서 바로 쓰므로, 내역 수와 관계없이 요청당 메모리 사용량이 일정합니다.
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyStream(
         @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id
     ) {
-        return pointService.listPointHistory(id);
+        // 유효하지 않은 유저는 응답을 시작하기 전에 에러로 응답하도록 첫 페이지는 미리 조회
+        List<PointHistory> firstPage = pointService.listPointHistory(id, 0L, STREAM_PAGE_SIZE);
+
+        StreamingResponseBody body = outputStream -> {
+            List<PointHistory> page = firstPage;
+            while (true) {
+                writeLines(outputStream, page);
+                if (page.size() < STREAM_PAGE_SIZE) {
+                    return;
+                }
+                page = pointService.listPointHistory(id, page.get(page.size() - 1).id(), STREAM_PAGE_SIZE);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도한 요청은 다시 충전하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
         @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+        @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.") String idempotencyKey,
         @Valid @RequestBody ChargeUserPointRequestDto request
     ) {
-        return pointService.chargeUserPoint(id, request);
+        if (idempotencyKey == null) {
+            return pointService.chargeUserPoint(id, request);
+        }
+        return pointIdempotencyCache.execute(id, idempotencyKey, TransactionType.CHARGE, request.getAmount(),
+            () -> pointService.chargeUserPoint(id, request));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도한 요청은 다시 사용하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
         @PathVariable @Positive(message = "유저 Id는 양수여야 합니다.") long id,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+        @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.") String idempotencyKey,
         @Valid @RequestBody UseUserPointRequestDto request
     ) {
-        return pointService.useUserPoint(id, request);
+        if (idempotencyKey == null) {
+            return pointService.useUserPoint(id, request);
+        }
+        return pointIdempotencyCache.execute(id, idempotencyKey, TransactionType.USE, request.getAmount(),
+            () -> pointService.useUserPoint(id, request));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용합니다.
+     * 작업별 성공/실패 결과를 요청 순서대로 반환합니다.
+     */
+    @PostMapping("batch")
+    public List<PointOperationResult> batch(
+        @Valid @RequestBody BatchPointRequestDto request
+    ) {
+        return pointBatchService.applyBatch(request.toOperations());
+    }
+
+    private void writeLines(OutputStream outputStream, List<PointHistory> pointHistories) throws IOException {
+        for (PointHistory pointHistory : pointHistories) {
+            outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
     }
 }
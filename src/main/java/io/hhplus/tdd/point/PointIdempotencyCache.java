@@ -0,0 +1,229 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointIdempotencyPolicy;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 ID와 Idempotency-Key 별로 충전/사용 결과를 보관하는 캐시입니다.<br>
+ * 같은 키로 다시 요청하면 PointService를 거치지 않고 보관한 결과를 반환하고,
+ * 처음 요청이 아직 처리 중이면 새로 처리하지 않고 그 결과를 기다립니다.<br>
+ * 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있습니다.<br>
+ * 유저 ID 기준으로 세그먼트를 나누고, 세그먼트마다 처리가 끝난 순서대로 만료/크기 초과 결과를 제거합니다.<br>
+ * 처리 중인 요청은 제거하지 않으며, 세그먼트가 처리 중인 요청으로 가득 차면 새 요청을 거절합니다. (같은 키가 두 번 실행되지 않도록)
+ */
+@Component
+public class PointIdempotencyCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final long ttlNanos;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    /**
+     * completed/expiresAtNanos는 세그먼트 락 안에서만 읽고 씁니다.
+     */
+    private static final class Entry {
+        private final TransactionType type;
+        private final long amount;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private boolean completed;
+        private long expiresAtNanos;
+
+        private Entry(TransactionType type, long amount) {
+            this.type = type;
+            this.amount = amount;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return completed && nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    public PointIdempotencyCache(PointIdempotencyPolicy pointIdempotencyPolicy) {
+        this.ttlNanos = pointIdempotencyPolicy.ttl().toNanos();
+
+        int segmentSize = Math.max(1, pointIdempotencyPolicy.maximumSize() / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * 멱등성 키로 충전/사용 실행<br>
+     * 1. 같은 유저, 같은 키의 만료되지 않은 결과가 있으면 요청 내용(종류, 금액)이 같은지 검사 후 그 결과 반환 (처리 중이면 완료까지 대기)<br>
+     * 2. 없으면 처리 중으로 등록한 후 직접 실행 (세그먼트가 처리 중인 요청으로 가득 차 있으면 예외 발생)<br>
+     * 3. 성공하면 처리 완료로 표시하고 만료 시각 설정 후 결과 전달<br>
+     * 4. 실패하면 등록을 지우고, 기다리던 요청에도 같은 예외 전달<br>
+     * @param userId 유저 ID
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @param type 트랜잭션 종류
+     * @param amount 충전/사용 금액
+     * @param action 실제 충전/사용
+     * @return 충전/사용 이후의 유저 포인트 현황
+     */
+    public UserPoint execute(long userId, String idempotencyKey, TransactionType type, long amount, Supplier<UserPoint> action) {
+        Key key = new Key(userId, idempotencyKey);
+        Segment segment = segmentFor(userId);
+
+        Entry entry = new Entry(type, amount);
+        Entry existing = segment.putIfAbsent(key, entry, System.nanoTime());
+        if (existing != null) {
+            if (existing.type != type || existing.amount != amount) {
+                throw new RuntimeException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            return await(existing.result);
+        }
+
+        UserPoint userPoint;
+        try {
+            userPoint = action.get();
+        } catch (RuntimeException ex) {
+            segment.remove(key, entry);
+            entry.result.completeExceptionally(ex);
+            throw ex;
+        }
+
+        segment.complete(key, entry, ttlNanos);
+        entry.result.complete(userPoint);
+        return userPoint;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Segment segmentFor(long userId) {
+        return segments[(Long.hashCode(userId) & Integer.MAX_VALUE) % SEGMENT_COUNT];
+    }
+
+    private static class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>();
+        private final int maximumSize;
+
+        private Segment(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * 키 등록<br>
+         * 1. 만료된 결과 제거<br>
+         * 2. 키가 있고 만료되지 않았으면 이미 있던 결과 반환<br>
+         * 3. 크기를 넘으면 처리가 끝난 결과를 오래된 순서대로 제거 (처리 중인 요청만 남았으면 예외 발생)<br>
+         * 4. 처리 중으로 추가<br>
+         * @return 이미 있던 결과 (없으면 null)
+         */
+        private Entry putIfAbsent(Key key, Entry entry, long nowNanos) {
+            lock.lock();
+            try {
+                removeExpired(nowNanos);
+
+                Entry existing = entries.get(key);
+                if (existing != null) {
+                    if (!existing.isExpired(nowNanos)) {
+                        return existing;
+                    }
+                    entries.remove(key);
+                }
+
+                if (entries.size() >= maximumSize && !removeEldestCompleted()) {
+                    throw new RuntimeException("처리 중인 멱등성 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+                entries.put(key, entry);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 처리 완료로 표시하고 끝으로 옮겨서, 처리가 끝난 결과는 항상 처리가 끝난 순서(=만료 순서)로 놓이도록 합니다.
+         */
+        private void complete(Key key, Entry entry, long ttlNanos) {
+            lock.lock();
+            try {
+                entry.completed = true;
+                entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+                if (entries.remove(key, entry)) {
+                    entries.put(key, entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 처리 중인 요청은 건너뛰고, 처리가 끝난 결과 중 만료되지 않은 첫 결과까지 제거합니다. (이후의 결과는 더 늦게 만료되므로)
+         */
+        private void removeExpired(long nowNanos) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                if (!eldest.completed) {
+                    continue;
+                }
+                if (!eldest.isExpired(nowNanos)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        /**
+         * @return 처리가 끝난 결과를 하나 제거했으면 true, 모두 처리 중이면 false
+         */
+        private boolean removeEldestCompleted() {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().completed) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void remove(Key key, Entry entry) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.metrics.PointMetrics;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -9,15 +10,18 @@ import org.springframework.stereotype.Component;
 public class PointLimitChecker {
 
     private final PointLimit pointLimit;
+    private final PointMetrics pointMetrics;
 
     public void checkMaxPointLimit(long point) {
         if (pointLimit.max() < point) {
+            pointMetrics.incrementMaxLimitRejection();
             throw new RuntimeException("포인트는 최대 포인트 정책 금액보다 클 수 없습니다.");
         }
     }
 
     public void checkMinPointLimit(long point) {
         if (point < pointLimit.min()) {
+            pointMetrics.incrementMinLimitRejection();
             throw new RuntimeException("포인트는 최소 포인트 정책 금액보다 작을 수 없습니다.");
         }
     }
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record PointOperation(
+    long userId,
+    TransactionType type,
+    long amount
+) {
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 작업 결과
+ * - 성공 시 : 작업 직후의 유저 포인트 현황
+ * - 실패 시 : 실패 사유
+ */
+public record PointOperationResult(
+    long userId,
+    TransactionType type,
+    long amount,
+    boolean success,
+    UserPoint userPoint,
+    String message
+) {
+
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), true, userPoint, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, String message) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), false, null, message);
+    }
+}
@@ -1,26 +1,40 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
 import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.lock.UserLock;
 import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.shard.PointShardEngine;
+import io.hhplus.tdd.user.UserRegistry;
+import jakarta.validation.ConstraintViolationException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
     private final PointLimitChecker pointLimitChecker;
     private final UserLockManager userLockManager;
+    private final PointHistoryAppender pointHistoryAppender;
+    private final UserRegistry userRegistry;
+    private final PointCombiner pointCombiner;
+    private final PointShardEngine pointShardEngine;
+    private final PointJournal pointJournal;
+    private final PointCasEngine pointCasEngine;
 
     /**
      * 포인트 충전 <br>
@@ -29,8 +43,15 @@ public class PointService {
      * 3. 충전 이후 금액 계산<br>
      * 4. 계산한 금액에 대한 포인트 최대 정책 검사<br>
      * 5. 포인트 업데이트<br>
-     * 6. 포인트 충전 히스토리 추가<br>
-     * 7. 최종 유저 포인트 현황 반환<br>
+     * 6. 포인트 저널 기록 추가 (저널 사용 시)<br>
+     * 7. 포인트 충전 히스토리 추가 요청 (비동기)<br>
+     * 8. 유저 등록<br>
+     * 9. 락 해제 후 저널 기록의 디스크 동기화 대기 (ALWAYS 정책)<br>
+     * 10. 최종 유저 포인트 현황 반환<br>
+     * COMBINING 모드에서는 2~8을 같은 유저의 대기 요청과 함께 처리합니다.<br>
+     * SHARDED 모드에서는 2~8을 유저의 샤드 스레드에서 락 없이 처리합니다.<br>
+     * CAS 모드에서는 2~5를 유저 셀의 compareAndSet으로 락 없이 처리하고, 6~8은 버전 순서대로 처리합니다.<br>
+     * 모든 모드에서 락을 잡기 전에 기록 대기 중인 히스토리가 버퍼 크기보다 적어질 때까지 대기합니다.
      * @param id 충전할 유저 ID
      * @param request 충전 금액을 담은 DTO
      * @return 충전 이후에 유저 포인트 현황
@@ -38,50 +59,66 @@ public class PointService {
     public UserPoint chargeUserPoint(Long id, ChargeUserPointRequestDto request) {
 
         pointLimitChecker.checkMaxPointLimit(request.getAmount());
+        pointHistoryAppender.awaitCapacity();
 
-        ReentrantLock userLock = userLockManager.getUserLock(id);
-        userLock.lock();
-        UserPoint updatedUserPoint;
-        try {
-            UserPoint userPoint = userPointTable.selectById(id);
-
-            long updatePoint = userPoint.chargePoint(request.getAmount());
-            pointLimitChecker.checkMaxPointLimit(updatePoint);
+        if (pointCombiner.isEnabled()) {
+            UserPoint combinedUserPoint = combine(new PointOperation(id, TransactionType.CHARGE, request.getAmount()));
+            pointJournal.awaitDurable();
+            return combinedUserPoint;
+        }
 
-            updatedUserPoint = userPointTable.insertOrUpdate(id, updatePoint);
+        if (pointShardEngine.isEnabled()) {
+            UserPoint shardedUserPoint = pointShardEngine.execute(id, () -> charge(id, request.getAmount()));
+            pointJournal.awaitDurable();
+            return shardedUserPoint;
+        }
 
-            try {
-                pointHistoryTable.insert(id, request.getAmount(), TransactionType.CHARGE, updatedUserPoint.updateMillis());
-            } catch (Exception ex) {
-                log.error("chargeUserPoint 히스토리 추가 실패: " + ex.getMessage());
-            }
+        if (pointCasEngine.isEnabled()) {
+            UserPoint casUserPoint = pointCasEngine.apply(new PointOperation(id, TransactionType.CHARGE, request.getAmount()));
+            pointJournal.awaitDurable();
+            return casUserPoint;
+        }
 
+        UserLock userLock = userLockManager.getUserLock(id);
+        userLock.lock();
+        UserPoint updatedUserPoint;
+        try {
+            updatedUserPoint = charge(id, request.getAmount());
         } catch (Exception ex) {
             throw ex;
         } finally {
             userLock.unlock();
         }
 
+        pointJournal.awaitDurable();
         return updatedUserPoint;
     }
 
     /**
      * 포인트 조회<br>
-     * 1. 유저 ID로 포인트 히스토리 조회<br>
-     * 2. 포인트 히스토리가 없을 경우, 유저 유효성 에러 발생<br>
-     * 3. 유저 ID로 현재 포인트 조회<br>
+     * 1. 등록된 유저가 아닐 경우, 유저 유효성 에러 발생<br>
+     * 2. 유저 락의 조회 방식으로 현재 포인트 조회 (STAMPED 전략은 낙관적 읽기)<br>
+     * SHARDED 모드에서는 2를 샤드 스레드를 거치지 않고 캐시에서 바로 읽습니다. (조회가 샤드의 쓰기 뒤에 대기하지 않도록)<br>
+     * CAS 모드에서는 2를 유저 셀에서 락 없이 읽습니다.
      * @param id 조회할 유저 ID
      * @return 유저 포인트 현황
      */
     public UserPoint getUserPoint(Long id) {
 
-        List<PointHistory> pointHistoryList = pointHistoryTable.selectAllByUserId(id);
-
-        if (pointHistoryList.isEmpty()) {
+        if (!userRegistry.contains(id)) {
             throw new RuntimeException("유효하지 않은 유저입니다.");
         }
 
-        UserPoint userPoint = userPointTable.selectById(id);
+        if (pointShardEngine.isEnabled()) {
+            return userPointCache.selectById(id);
+        }
+
+        if (pointCasEngine.isEnabled()) {
+            return pointCasEngine.get(id);
+        }
+
+        UserLock userLock = userLockManager.getUserLock(id);
+        UserPoint userPoint = userLock.read(() -> userPointCache.selectById(id));
 
         return userPoint;
     }
@@ -91,54 +128,335 @@ public class PointService {
      * 1. 유저 ID로 현재 포인트 조회<br>
      * 2. 포인트 사용 이후 금액 계산<br>
      * 3. 계산한 금액에 대한 포인트 최소 정책 검사<br>
-     * 4. 포인트 사용 히스토리 추가<br>
-     * 5. 사용 이후 유저 포인트 현황 반환<br>
+     * 4. 포인트 저널 기록 추가 (저널 사용 시)<br>
+     * 5. 포인트 사용 히스토리 추가 요청 (비동기)<br>
+     * 6. 유저 등록<br>
+     * 7. 락 해제 후 저널 기록의 디스크 동기화 대기 (ALWAYS 정책)<br>
+     * 8. 사용 이후 유저 포인트 현황 반환<br>
+     * COMBINING 모드에서는 1~6을 같은 유저의 대기 요청과 함께 처리합니다.<br>
+     * SHARDED 모드에서는 1~6을 유저의 샤드 스레드에서 락 없이 처리합니다.<br>
+     * CAS 모드에서는 1~3을 유저 셀의 compareAndSet으로 락 없이 처리하고, 4~6은 버전 순서대로 처리합니다.<br>
+     * 모든 모드에서 락을 잡기 전에 기록 대기 중인 히스토리가 버퍼 크기보다 적어질 때까지 대기합니다.
      * @param id 유저 ID
      * @param request 사용 금액
      * @return 사용 이후에 유저 포인트 현황
      */
     public UserPoint useUserPoint(Long id, UseUserPointRequestDto request) {
 
-        ReentrantLock userLock = userLockManager.getUserLock(id);
-        userLock.lock();
-        UserPoint updatedUserPoint;
+        pointHistoryAppender.awaitCapacity();
 
-        try {
-            UserPoint userPoint = userPointTable.selectById(id);
-            long updatePoint = userPoint.usePoint(request.getAmount());
+        if (pointCombiner.isEnabled()) {
+            UserPoint combinedUserPoint = combine(new PointOperation(id, TransactionType.USE, request.getAmount()));
+            pointJournal.awaitDurable();
+            return combinedUserPoint;
+        }
 
-            pointLimitChecker.checkMinPointLimit(updatePoint);
+        if (pointShardEngine.isEnabled()) {
+            UserPoint shardedUserPoint = pointShardEngine.execute(id, () -> use(id, request.getAmount()));
+            pointJournal.awaitDurable();
+            return shardedUserPoint;
+        }
 
-            updatedUserPoint = userPointTable.insertOrUpdate(id, updatePoint);
+        if (pointCasEngine.isEnabled()) {
+            UserPoint casUserPoint = pointCasEngine.apply(new PointOperation(id, TransactionType.USE, request.getAmount()));
+            pointJournal.awaitDurable();
+            return casUserPoint;
+        }
 
-            try {
-                pointHistoryTable.insert(id, request.getAmount(), TransactionType.USE, updatedUserPoint.updateMillis());
-            } catch (Exception ex) {
-                log.error("useUserPoint 히스토리 추가 실패: " + ex.getMessage());
-            }
+        UserLock userLock = userLockManager.getUserLock(id);
+        userLock.lock();
+        UserPoint updatedUserPoint;
+
+        try {
+            updatedUserPoint = use(id, request.getAmount());
         } catch (Exception ex) {
             throw ex;
         } finally {
             userLock.unlock();
         }
 
+        pointJournal.awaitDurable();
         return updatedUserPoint;
     }
 
     /**
-     * 1. 유저 ID로 포인트 히스토리 조회<br>
-     * 2. 포인트 히스토리가 없을 경우 예외 반환<br>
-     * 3. 포인트 히스토리 반환<br>
+     * 1. 등록된 유저가 아닐 경우 예외 반환<br>
+     * 2. 기록 대기 중인 포인트 히스토리 반영<br>
+     * 3. 유저 ID로 포인트 히스토리 조회 후 반환<br>
      * @param id 유저 ID
      * @return 유저 포인트 히스토리
      */
     public List<PointHistory> listPointHistory(Long id) {
-        List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(id);
+        if (!userRegistry.contains(id)) {
+            throw new RuntimeException("유효하지 않은 유저입니다");
+        }
+
+        pointHistoryAppender.flush(id);
+        return pointHistoryIndex.selectAllByUserId(id);
+    }
 
-        if (pointHistories.isEmpty()) {
+    /**
+     * 1. 등록된 유저가 아닐 경우 예외 반환<br>
+     * 2. 기록 대기 중인 포인트 히스토리 반영<br>
+     * 3. 커서 이후의 포인트 히스토리를 최대 limit 개 조회 후 반환<br>
+     * @param id 유저 ID
+     * @param after 이 히스토리 ID 이후부터 조회 (처음부터 조회하려면 0)
+     * @param limit 최대 조회 개수
+     * @return 히스토리 ID 순으로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> listPointHistory(Long id, long after, int limit) {
+        if (!userRegistry.contains(id)) {
+            throw new RuntimeException("유효하지 않은 유저입니다");
+        }
+
+        pointHistoryAppender.flush(id);
+        return pointHistoryIndex.selectByUserIdAfter(id, after, limit);
+    }
+
+    /**
+     * 1. 등록된 유저가 아닐 경우 예외 반환<br>
+     * 2. 기록 대기 중인 포인트 히스토리 반영<br>
+     * 3. 히스토리를 추가할 때 갱신된 유저 포인트 거래 통계 조회 후 반환<br>
+     * @param id 유저 ID
+     * @return 유저 포인트 거래 통계
+     */
+    public PointStats getPointStats(Long id) {
+        if (!userRegistry.contains(id)) {
+            throw new RuntimeException("유효하지 않은 유저입니다");
+        }
+
+        pointHistoryAppender.flush(id);
+        return pointHistoryIndex.selectStatsByUserId(id);
+    }
+
+    /**
+     * 1. 조회 시작 시각이 끝 시각보다 늦을 경우 예외 반환 (요청 값 오류이므로 ConstraintViolationException, 400 응답)<br>
+     * 2. 등록된 유저가 아닐 경우 예외 반환<br>
+     * 3. 기록 대기 중인 포인트 히스토리 반영<br>
+     * 4. 기간 내의 포인트 히스토리를 최대 limit 개 조회 후 반환<br>
+     * @param id 유저 ID
+     * @param fromMillis 이 시각부터 조회 (포함)
+     * @param toMillis 이 시각 전까지 조회 (미포함)
+     * @param limit 최대 조회 개수
+     * @return 변경 시각 순으로 정렬된 유저 포인트 히스토리
+     */
+    public List<PointHistory> listPointHistoryBetween(Long id, long fromMillis, long toMillis, int limit) {
+        if (fromMillis > toMillis) {
+            throw new ConstraintViolationException("조회 시작 시각은 끝 시각보다 늦을 수 없습니다.", Set.of());
+        }
+        if (!userRegistry.contains(id)) {
             throw new RuntimeException("유효하지 않은 유저입니다");
         }
 
-        return pointHistories;
+        pointHistoryAppender.flush(id);
+        return pointHistoryIndex.selectByUserIdBetween(id, fromMillis, toMillis, limit);
+    }
+
+    /**
+     * 한 유저의 포인트 충전/사용 작업 일괄 처리<br>
+     * 1. 유저 락을 한 번만 획득<br>
+     * 2. 유저 ID로 현재 포인트 조회<br>
+     * 3. 요청 순서대로 작업마다 단건 충전/사용과 같은 정책 검사 후 중간 잔액 계산 (실패한 작업은 건너뜀)<br>
+     * 4. 성공한 작업이 있으면 최종 잔액으로 포인트 한 번만 업데이트<br>
+     * 5. 성공한 작업마다 포인트 저널 기록 추가 (저널 사용 시) 및 포인트 히스토리 추가 요청 (비동기)<br>
+     * 6. 유저 등록<br>
+     * 7. 락 해제 후 저널 기록의 디스크 동기화 대기 (ALWAYS 정책)<br>
+     * 8. 작업별 결과 반환<br>
+     * SHARDED 모드에서는 락 대신 유저의 샤드 스레드에서 처리합니다.<br>
+     * CAS 모드에서는 작업마다 단건 충전/사용과 같이 compareAndSet으로 반영합니다.<br>
+     * 모든 모드에서 락을 잡기 전에 기록 대기 중인 히스토리가 버퍼 크기보다 적어질 때까지 대기합니다.
+     * @param userId 유저 ID
+     * @param operations 해당 유저의 작업 목록 (요청 순서)
+     * @return 작업별 결과 (요청 순서)
+     */
+    public List<PointOperationResult> applyUserOperations(long userId, List<PointOperation> operations) {
+
+        pointHistoryAppender.awaitCapacity();
+
+        if (pointShardEngine.isEnabled()) {
+            List<PointOperationResult> results = pointShardEngine.execute(userId, () -> applyOperations(userId, operations));
+            pointJournal.awaitDurable();
+            return results;
+        }
+
+        if (pointCasEngine.isEnabled()) {
+            List<PointOperationResult> results = pointCasEngine.applyAll(operations);
+            pointJournal.awaitDurable();
+            return results;
+        }
+
+        UserLock userLock = userLockManager.getUserLock(userId);
+        userLock.lock();
+        List<PointOperationResult> results;
+        try {
+            results = applyOperations(userId, operations);
+        } finally {
+            userLock.unlock();
+        }
+
+        pointJournal.awaitDurable();
+        return results;
+    }
+
+    /**
+     * 유저의 포인트 변경과 겹치지 않게 작업 실행<br>
+     * 실행 모드와 관계없이 작업이 끝날 때까지 해당 유저의 충전/사용이 반영되지 않습니다.<br>
+     * SHARDED 모드에서는 유저의 샤드 스레드에서, CAS 모드에서는 유저 셀을 얼린 후, 그 외에는 유저 락을 획득한 후 실행합니다.
+     * @param userId 유저 ID
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeExclusively(long userId, Supplier<T> task) {
+
+        if (pointShardEngine.isEnabled()) {
+            return pointShardEngine.execute(userId, task);
+        }
+
+        if (pointCasEngine.isEnabled()) {
+            return pointCasEngine.executeExclusively(userId, task);
+        }
+
+        UserLock userLock = userLockManager.getUserLock(userId);
+        userLock.lock();
+        try {
+            return task.get();
+        } finally {
+            userLock.unlock();
+        }
+    }
+
+    /**
+     * 충전/사용 요청 결합 처리<br>
+     * 1. 처리 대기 요청 추가<br>
+     * 2. 유저 락 획득<br>
+     * 3. 다른 스레드가 이미 처리하지 않았다면, 대기 중인 요청을 모두 가져와 도착 순서대로 일괄 처리<br>
+     * 4. 요청마다 처리 결과 전달<br>
+     * 5. 자신의 처리 결과 반환<br>
+     * @param operation 충전/사용 요청
+     * @return 처리 이후 유저 포인트 현황
+     */
+    private UserPoint combine(PointOperation operation) {
+        PointCombiner.PendingOperation pendingOperation = pointCombiner.enqueue(operation);
+
+        UserLock userLock = userLockManager.getUserLock(operation.userId());
+        userLock.lock();
+        try {
+            if (!pendingOperation.isDone()) {
+                List<PointCombiner.PendingOperation> pendingOperations = pointCombiner.drain(operation.userId());
+                List<PointOperation> operations = pendingOperations.stream()
+                    .map(PointCombiner.PendingOperation::operation)
+                    .toList();
+
+                List<PointOperationResult> results;
+                try {
+                    results = applyOperations(operation.userId(), operations);
+                } catch (RuntimeException ex) {
+                    results = operations.stream()
+                        .map(failed -> PointOperationResult.failure(failed, ex.getMessage()))
+                        .toList();
+                }
+
+                for (int i = 0; i < pendingOperations.size(); i++) {
+                    pendingOperations.get(i).complete(results.get(i));
+                }
+            }
+        } finally {
+            userLock.unlock();
+        }
+
+        return pendingOperation.join();
+    }
+
+    private UserPoint charge(long id, long amount) {
+        UserPoint userPoint = userPointCache.selectById(id);
+
+        long updatePoint = userPoint.chargePoint(amount);
+        pointLimitChecker.checkMaxPointLimit(updatePoint);
+
+        UserPoint updatedUserPoint = userPointCache.insertOrUpdate(id, updatePoint);
+
+        pointJournal.append(id, amount, TransactionType.CHARGE, updatedUserPoint.point(), updatedUserPoint.updateMillis());
+        pointHistoryAppender.append(id, amount, TransactionType.CHARGE, updatedUserPoint.updateMillis());
+        userRegistry.register(id);
+        return updatedUserPoint;
+    }
+
+    private UserPoint use(long id, long amount) {
+        UserPoint userPoint = userPointCache.selectById(id);
+        long updatePoint = userPoint.usePoint(amount);
+
+        pointLimitChecker.checkMinPointLimit(updatePoint);
+
+        UserPoint updatedUserPoint = userPointCache.insertOrUpdate(id, updatePoint);
+
+        pointJournal.append(id, amount, TransactionType.USE, updatedUserPoint.point(), updatedUserPoint.updateMillis());
+        pointHistoryAppender.append(id, amount, TransactionType.USE, updatedUserPoint.updateMillis());
+        userRegistry.register(id);
+        return updatedUserPoint;
+    }
+
+    private List<PointOperationResult> applyOperations(long userId, List<PointOperation> operations) {
+        UserPoint userPoint = userPointCache.selectById(userId);
+
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        List<PointOperation> appliedOperations = new ArrayList<>();
+        List<Long> appliedPoints = new ArrayList<>();
+
+        long point = userPoint.point();
+        for (PointOperation operation : operations) {
+            try {
+                point = applyOperation(new UserPoint(userId, point, userPoint.updateMillis()), operation);
+                appliedOperations.add(operation);
+                appliedPoints.add(point);
+                results.add(null);
+            } catch (RuntimeException ex) {
+                results.add(PointOperationResult.failure(operation, ex.getMessage()));
+            }
+        }
+
+        if (appliedOperations.isEmpty()) {
+            return results;
+        }
+
+        UserPoint updatedUserPoint;
+        try {
+            updatedUserPoint = userPointCache.insertOrUpdate(userId, point);
+        } catch (RuntimeException ex) {
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) == null) {
+                    results.set(i, PointOperationResult.failure(operations.get(i), ex.getMessage()));
+                }
+            }
+            return results;
+        }
+
+        for (int i = 0; i < appliedOperations.size(); i++) {
+            PointOperation operation = appliedOperations.get(i);
+            pointJournal.append(userId, operation.amount(), operation.type(), appliedPoints.get(i), updatedUserPoint.updateMillis());
+            pointHistoryAppender.append(userId, operation.amount(), operation.type(), updatedUserPoint.updateMillis());
+        }
+        userRegistry.register(userId);
+
+        int applied = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                UserPoint resultPoint = new UserPoint(userId, appliedPoints.get(applied++), updatedUserPoint.updateMillis());
+                results.set(i, PointOperationResult.success(operations.get(i), resultPoint));
+            }
+        }
+        return results;
+    }
+
+    private long applyOperation(UserPoint userPoint, PointOperation operation) {
+        if (operation.type() == TransactionType.CHARGE) {
+            pointLimitChecker.checkMaxPointLimit(operation.amount());
+            long updatePoint = userPoint.chargePoint(operation.amount());
+            pointLimitChecker.checkMaxPointLimit(updatePoint);
+            return updatePoint;
+        }
+
+        long updatePoint = userPoint.usePoint(operation.amount());
+        pointLimitChecker.checkMinPointLimit(updatePoint);
+        return updatePoint;
     }
 }
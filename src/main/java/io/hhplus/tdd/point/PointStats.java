@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 포인트 거래 통계
+ * @param userId 유저 ID
+ * @param totalCharged 총 충전 금액
+ * @param totalUsed 총 사용 금액
+ * @param transactionCount 충전/사용 횟수
+ * @param firstActivityMillis 가장 이른 포인트 변경 시각 (내역이 없으면 0)
+ * @param lastActivityMillis 가장 늦은 포인트 변경 시각 (내역이 없으면 0)
+ */
+public record PointStats(
+    long userId,
+    long totalCharged,
+    long totalUsed,
+    long transactionCount,
+    long firstActivityMillis,
+    long lastActivityMillis
+) {
+
+    public static PointStats empty(long userId) {
+        return new PointStats(userId, 0L, 0L, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.reconcile;
+
+/**
+ * 포인트와 히스토리 합계가 일치하지 않는 유저
+ * @param userId 유저 ID
+ * @param storedPoint 저장된 포인트
+ * @param historyPoint 히스토리로 다시 계산한 포인트 (충전 합계 - 사용 합계)
+ * @param repaired 히스토리 기준으로 포인트를 복구했는지 여부
+ */
+public record BalanceMismatch(
+    long userId,
+    long storedPoint,
+    long historyPoint,
+    boolean repaired
+) {
+}
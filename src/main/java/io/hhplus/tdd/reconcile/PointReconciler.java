@@ -0,0 +1,407 @@
+package io.hhplus.tdd.reconcile;
+
+import io.hhplus.tdd.config.PointReconcilePolicy;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.user.UserRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유저별 포인트가 히스토리의 충전 합계 - 사용 합계와 일치하는지 검사합니다.<br>
+ * 등록된 유저를 fork-join으로 나누어 병렬로 검사하고, 유저마다 지금까지 읽은 히스토리 수와 그때까지의 합계를 체크포인트로 남겨
+ * 다음 검사에서는 체크포인트 이후의 히스토리만 읽습니다.<br>
+ * 포인트 저널을 사용하면 재시작 후 히스토리를 저널로 복구하므로, 체크포인트를 파일에 저장해 재시작 후에도 이어서 검사합니다.<br>
+ * 먼저 락 없이 비교하고, 다를 때만 유저 락 안에서 다시 비교하므로 검사 중에도 충전/사용을 막지 않습니다.<br>
+ * 포인트는 캐시를 거치지 않고 테이블에서 읽으므로, 모든 유저를 순회해도 요청에 쓰이는 캐시 항목을 밀어내지 않습니다.<br>
+ * 유저 검사는 히스토리 반영 대기, 테이블 조회, 유저 락 획득으로 블로킹되므로 ManagedBlocker로 실행해 pool이 병렬 수준을 유지하도록 합니다.
+ */
+@Component
+@Slf4j
+public class PointReconciler {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int MAX_REPORTED_MISMATCHES = 1000;
+    private static final Checkpoint EMPTY_CHECKPOINT = new Checkpoint(0, 0L, 0L);
+
+    private final PointService pointService;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointHistoryAppender pointHistoryAppender;
+    private final UserRegistry userRegistry;
+    private final PointJournal pointJournal;
+    private final int threshold;
+    private final ForkJoinPool pool;
+    private final ExecutorService runner;
+    private final Path checkpointPath;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<Long, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+    private final Map<Long, Checkpoint> savedCheckpoints = new ConcurrentHashMap<>();
+    private volatile ReconcileStatus status = ReconcileStatus.idle();
+
+    /**
+     * 유저별 체크포인트
+     * @param historyCount 지금까지 읽은 히스토리 수 (유저별 목록의 위치)
+     * @param historyPoint 그때까지의 충전 합계 - 사용 합계
+     * @param lastUpdateMillis 마지막으로 읽은 히스토리의 변경 시각 (파일에서 읽은 체크포인트 확인용)
+     */
+    private record Checkpoint(int historyCount, long historyPoint, long lastUpdateMillis) {
+    }
+
+    public PointReconciler(PointReconcilePolicy pointReconcilePolicy, PointService pointService, UserPointCache userPointCache,
+                           PointHistoryIndex pointHistoryIndex, PointHistoryAppender pointHistoryAppender, UserRegistry userRegistry,
+                           PointJournal pointJournal) {
+        this.pointService = pointService;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointHistoryAppender = pointHistoryAppender;
+        this.userRegistry = userRegistry;
+        this.pointJournal = pointJournal;
+        this.threshold = Math.max(1, pointReconcilePolicy.threshold());
+        this.pool = new ForkJoinPool(pointReconcilePolicy.parallelismLevel());
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 저널이 없으면 재시작 후 히스토리가 남지 않으므로 체크포인트도 저장하지 않음
+        this.checkpointPath = pointJournal.isEnabled() ? pointReconcilePolicy.checkpointPath() : null;
+        if (checkpointPath != null) {
+            loadCheckpoints();
+        }
+    }
+
+    /**
+     * 정합성 검사 시작<br>
+     * 1. 이미 검사 중이면 예외 발생<br>
+     * 2. 검사 중 상태로 바꾸고, 검사 스레드에서 reconcile과 같은 검사 실행<br>
+     * 3. 검사가 끝나면 완료/실패 상태와 결과 기록 (status로 조회)<br>
+     * 요청 스레드는 검사를 기다리지 않고 바로 반환합니다.
+     * @param repair 불일치 유저의 포인트를 히스토리 기준으로 복구할지 여부
+     * @return 시작한 검사의 상태
+     */
+    public ReconcileStatus start(boolean repair) {
+        ReconcileStatus started = acquire(repair);
+        try {
+            runner.execute(() -> {
+                try {
+                    execute(started);
+                } catch (RuntimeException ex) {
+                    log.error("포인트 정합성 검사 실패: " + ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            status = started.failed("정합성 검사를 시작할 수 없습니다.");
+            running.set(false);
+            throw new RuntimeException("정합성 검사를 시작할 수 없습니다.", ex);
+        }
+        return started;
+    }
+
+    /**
+     * @return 진행 중이거나 마지막으로 실행한 검사의 상태
+     */
+    public ReconcileStatus status() {
+        return status;
+    }
+
+    /**
+     * 정합성 검사<br>
+     * 1. 이미 검사 중이면 예외 발생<br>
+     * 2. 등록된 유저 ID 목록을 복사해 threshold 이하가 될 때까지 나누어 병렬 검사<br>
+     * 3. 유저별로 기록 대기 중인 히스토리 반영 후, 체크포인트 이후의 히스토리를 더해 체크포인트 갱신<br>
+     * 4. 캐시를 거치지 않고 읽은 포인트와 비교해 다르면, 유저 락 안에서 3과 비교를 다시 수행 (락 없이 읽는 사이 충전/사용이 반영된 경우 제외)<br>
+     * 5. 그래도 다르면 불일치로 보고하고, repair면 히스토리 기준으로 포인트 복구 후 잔액 보정 기록을 저널에 추가<br>
+     * 6. 결과 합산 후, 복구했으면 저널 기록의 디스크 동기화 대기 (ALWAYS 정책)<br>
+     * 7. 체크포인트 파일 저장 (저널을 먼저 동기화해서, 체크포인트가 센 히스토리가 재시작 후에도 복구되도록 함)<br>
+     * 8. 결과 반환<br>
+     * @param repair 불일치 유저의 포인트를 히스토리 기준으로 복구할지 여부
+     * @return 검사 결과
+     */
+    public ReconcileReport reconcile(boolean repair) {
+        return execute(acquire(repair));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private ReconcileStatus acquire(boolean repair) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("이미 정합성 검사가 진행 중입니다.");
+        }
+        ReconcileStatus started = ReconcileStatus.running(repair);
+        status = started;
+        return started;
+    }
+
+    private ReconcileReport execute(ReconcileStatus started) {
+        try {
+            ReconcileReport reconcileReport = run(started.repair());
+            status = started.completed(reconcileReport);
+            return reconcileReport;
+        } catch (RuntimeException ex) {
+            status = started.failed(ex.getMessage());
+            throw ex;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ReconcileReport run(boolean repair) {
+        long startedAt = System.nanoTime();
+        long[] userIds = userRegistry.userIds();
+        PartialReport partialReport = pool.invoke(new ReconcileTask(userIds, 0, userIds.length, repair));
+        if (repair) {
+            pointJournal.awaitDurable();
+        }
+        saveCheckpoints();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("포인트 정합성 검사 완료: 유저 {}명, 히스토리 {}건, 재검사 {}명, 불일치 {}명, {}ms",
+            userIds.length, partialReport.scannedHistories, partialReport.recheckedUsers, partialReport.mismatchCount, elapsedMillis);
+        return new ReconcileReport(userIds.length, partialReport.scannedHistories, partialReport.recheckedUsers,
+            partialReport.mismatchCount, List.copyOf(partialReport.mismatches), elapsedMillis);
+    }
+
+    private UserResult check(long userId, boolean repair) {
+        pointHistoryAppender.flush(userId);
+        long scanned = advance(userId);
+        long storedPoint = userPointCache.selectByIdUncached(userId).point();
+        if (storedPoint == checkpoints.get(userId).historyPoint()) {
+            return new UserResult(scanned, false, null);
+        }
+
+        return pointService.executeExclusively(userId, () -> {
+            pointHistoryAppender.flush(userId);
+            long rescanned = scanned + advance(userId);
+            long lockedPoint = userPointCache.selectByIdUncached(userId).point();
+            long historyPoint = checkpoints.get(userId).historyPoint();
+            if (lockedPoint == historyPoint) {
+                return new UserResult(rescanned, true, null);
+            }
+
+            if (repair) {
+                // 히스토리가 기준이므로 히스토리는 추가하지 않고, 재시작 시 복구한 포인트가 유지되도록 잔액만 저널에 기록
+                UserPoint repaired = userPointCache.insertOrUpdate(userId, historyPoint);
+                pointJournal.appendBalanceCorrection(userId, historyPoint, repaired.updateMillis());
+                log.warn("포인트 복구: 유저 {} {} -> {}", userId, lockedPoint, historyPoint);
+            }
+            return new UserResult(rescanned, true, new BalanceMismatch(userId, lockedPoint, historyPoint, repair));
+        });
+    }
+
+    /**
+     * fork-join 작업자 스레드에서 블로킹되는 유저 검사를 실행합니다.<br>
+     * 블로킹되는 동안 pool이 보상 스레드를 추가할 수 있으므로, 다른 유저의 검사가 멈추지 않습니다.
+     */
+    private UserResult checkBlocking(long userId, boolean repair) {
+        UserCheck userCheck = new UserCheck(userId, repair);
+        try {
+            ForkJoinPool.managedBlock(userCheck);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("정합성 검사가 중단되었습니다.", ex);
+        }
+        return userCheck.result;
+    }
+
+    /**
+     * 체크포인트 이후의 히스토리를 페이지 단위로 읽어 체크포인트를 갱신합니다.
+     * @return 새로 읽은 히스토리 수
+     */
+    private long advance(long userId) {
+        Checkpoint checkpoint = checkpoints.get(userId);
+        if (checkpoint == null) {
+            checkpoint = savedCheckpoint(userId);
+        }
+        int historyCount = checkpoint.historyCount();
+        long historyPoint = checkpoint.historyPoint();
+        long lastUpdateMillis = checkpoint.lastUpdateMillis();
+        long scanned = 0;
+
+        while (true) {
+            List<PointHistory> page = pointHistoryIndex.selectByUserIdFrom(userId, historyCount, PAGE_SIZE);
+            for (PointHistory pointHistory : page) {
+                historyPoint += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+                lastUpdateMillis = pointHistory.updateMillis();
+            }
+            historyCount += page.size();
+            scanned += page.size();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        checkpoints.put(userId, new Checkpoint(historyCount, historyPoint, lastUpdateMillis));
+        return scanned;
+    }
+
+    /**
+     * 파일에서 읽은 체크포인트는 유저를 처음 검사할 때 한 번 확인합니다.<br>
+     * 복구한 히스토리의 같은 위치에 같은 변경 시각의 히스토리가 없으면 (저널에 남지 않은 히스토리를 센 경우 등) 처음부터 다시 읽습니다.
+     */
+    private Checkpoint savedCheckpoint(long userId) {
+        Checkpoint saved = savedCheckpoints.remove(userId);
+        if (saved == null || saved.historyCount() == 0) {
+            return EMPTY_CHECKPOINT;
+        }
+
+        List<PointHistory> last = pointHistoryIndex.selectByUserIdFrom(userId, saved.historyCount() - 1, 1);
+        if (last.isEmpty() || last.get(0).updateMillis() != saved.lastUpdateMillis()) {
+            log.warn("유저 {}의 정합성 검사 체크포인트가 복구한 히스토리와 맞지 않아 처음부터 검사합니다.", userId);
+            return EMPTY_CHECKPOINT;
+        }
+        return saved;
+    }
+
+    private void loadCheckpoints() {
+        try {
+            int userCount = ReconcileCheckpointFile.read(checkpointPath, (userId, historyCount, historyPoint, lastUpdateMillis) -> {
+                if (historyCount >= 0 && historyCount <= Integer.MAX_VALUE) {
+                    savedCheckpoints.put(userId, new Checkpoint((int) historyCount, historyPoint, lastUpdateMillis));
+                }
+            });
+            log.info("정합성 검사 체크포인트 {}명을 읽었습니다.", userCount);
+        } catch (IOException ex) {
+            log.warn("정합성 검사 체크포인트를 읽을 수 없어 처음부터 검사합니다: " + ex.getMessage());
+        }
+    }
+
+    private void saveCheckpoints() {
+        if (checkpointPath == null) {
+            return;
+        }
+
+        pointJournal.sync();
+        List<Map.Entry<Long, Checkpoint>> entries = new ArrayList<>(checkpoints.entrySet());
+        long[] values = new long[entries.size() * ReconcileCheckpointFile.FIELDS];
+        int i = 0;
+        for (Map.Entry<Long, Checkpoint> entry : entries) {
+            Checkpoint checkpoint = entry.getValue();
+            values[i++] = entry.getKey();
+            values[i++] = checkpoint.historyCount();
+            values[i++] = checkpoint.historyPoint();
+            values[i++] = checkpoint.lastUpdateMillis();
+        }
+
+        try {
+            ReconcileCheckpointFile.write(checkpointPath, values);
+        } catch (IOException ex) {
+            log.error("정합성 검사 체크포인트 저장 실패: " + ex.getMessage());
+        }
+    }
+
+    private record UserResult(long scannedHistories, boolean rechecked, BalanceMismatch mismatch) {
+    }
+
+    private final class UserCheck implements ForkJoinPool.ManagedBlocker {
+
+        private final long userId;
+        private final boolean repair;
+        private UserResult result;
+
+        private UserCheck(long userId, boolean repair) {
+            this.userId = userId;
+            this.repair = repair;
+        }
+
+        @Override
+        public boolean block() {
+            result = check(userId, repair);
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return result != null;
+        }
+    }
+
+    private static final class PartialReport {
+        private long scannedHistories;
+        private int recheckedUsers;
+        private int mismatchCount;
+        private final List<BalanceMismatch> mismatches = new ArrayList<>();
+
+        private void add(UserResult userResult) {
+            scannedHistories += userResult.scannedHistories();
+            if (userResult.rechecked()) {
+                recheckedUsers++;
+            }
+            if (userResult.mismatch() != null) {
+                mismatchCount++;
+                if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                    mismatches.add(userResult.mismatch());
+                }
+            }
+        }
+
+        private PartialReport merge(PartialReport other) {
+            scannedHistories += other.scannedHistories;
+            recheckedUsers += other.recheckedUsers;
+            mismatchCount += other.mismatchCount;
+            for (BalanceMismatch mismatch : other.mismatches) {
+                if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                    mismatches.add(mismatch);
+                }
+            }
+            return this;
+        }
+    }
+
+    private final class ReconcileTask extends RecursiveTask<PartialReport> {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final boolean repair;
+
+        private ReconcileTask(long[] userIds, int from, int to, boolean repair) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.repair = repair;
+        }
+
+        @Override
+        protected PartialReport compute() {
+            if (to - from <= threshold) {
+                PartialReport partialReport = new PartialReport();
+                for (int i = from; i < to; i++) {
+                    partialReport.add(checkBlocking(userIds[i], repair));
+                }
+                return partialReport;
+            }
+
+            int middle = (from + to) >>> 1;
+            ReconcileTask left = new ReconcileTask(userIds, from, middle, repair);
+            left.fork();
+            PartialReport right = new ReconcileTask(userIds, middle, to, repair).compute();
+            return left.join().merge(right);
+        }
+    }
+}
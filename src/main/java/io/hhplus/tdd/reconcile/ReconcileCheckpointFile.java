@@ -0,0 +1,117 @@
+package io.hhplus.tdd.reconcile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 정합성 검사 체크포인트 파일 형식입니다.<br>
+ * [매직 넘버, 버전, 유저 수] 헤더 뒤에 유저별 [유저 ID, 읽은 히스토리 수, 히스토리 포인트, 마지막 히스토리 변경 시각]을 32 바이트씩 기록하고,
+ * 마지막에 앞의 모든 바이트에 대한 CRC32C를 기록합니다.<br>
+ * 스냅샷 파일과 같이 임시 파일에 모두 기록하고 동기화한 후 원자적으로 교체합니다.
+ */
+final class ReconcileCheckpointFile {
+
+    private static final int MAGIC = 0x50524350;
+    private static final int VERSION = 1;
+    static final int FIELDS = 4;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private ReconcileCheckpointFile() {
+    }
+
+    /**
+     * 체크포인트 처리
+     */
+    @FunctionalInterface
+    interface CheckpointConsumer {
+        void accept(long userId, long historyCount, long historyPoint, long lastUpdateMillis);
+    }
+
+    /**
+     * 체크포인트 기록<br>
+     * 1. 같은 디렉토리의 임시 파일에 헤더와 유저별 체크포인트 기록<br>
+     * 2. 체크섬 기록 후 디스크 동기화<br>
+     * 3. 체크포인트 파일을 임시 파일로 원자적 교체<br>
+     * @param path 체크포인트 파일 경로
+     * @param entries 유저별 [유저 ID, 읽은 히스토리 수, 히스토리 포인트, 마지막 히스토리 변경 시각]을 이어 붙인 배열
+     */
+    static void write(Path path, long[] entries) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_BYTES));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(entries.length / FIELDS);
+            for (long value : entries) {
+                output.writeLong(value);
+            }
+            output.flush();
+            output.writeInt((int) crc.getValue());
+            output.flush();
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 체크포인트 읽기<br>
+     * 1. 매직 넘버, 버전, 체크섬을 모두 검증하며 읽기<br>
+     * 2. 검증에 성공한 경우에만 유저별 체크포인트를 순서대로 전달<br>
+     * @param path 체크포인트 파일 경로
+     * @param consumer 체크포인트 처리
+     * @return 읽은 유저 수 (파일이 없으면 0)
+     */
+    static int read(Path path, CheckpointConsumer consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        long size = Files.size(path);
+        CRC32C crc = new CRC32C();
+        long[] entries;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_BYTES))) {
+            DataInputStream checked = new DataInputStream(new CheckedInputStream(input, crc));
+            if (checked.readInt() != MAGIC || checked.readInt() != VERSION) {
+                throw new IOException("체크포인트 파일이 손상되었습니다.");
+            }
+            long userCount = checked.readLong();
+            if (userCount < 0 || size != 16 + userCount * FIELDS * Long.BYTES + Integer.BYTES) {
+                throw new IOException("체크포인트 파일이 손상되었습니다.");
+            }
+
+            entries = new long[(int) userCount * FIELDS];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = checked.readLong();
+            }
+            if ((int) crc.getValue() != input.readInt()) {
+                throw new IOException("체크포인트 파일의 체크섬이 일치하지 않습니다.");
+            }
+        } catch (EOFException ex) {
+            throw new IOException("체크포인트 파일이 손상되었습니다.", ex);
+        }
+
+        for (int i = 0; i < entries.length; i += FIELDS) {
+            consumer.accept(entries[i], entries[i + 1], entries[i + 2], entries[i + 3]);
+        }
+        return entries.length / FIELDS;
+    }
+}
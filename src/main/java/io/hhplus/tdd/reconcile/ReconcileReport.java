@@ -0,0 +1,22 @@
+package io.hhplus.tdd.reconcile;
+
+import java.util.List;
+
+/**
+ * 포인트 정합성 검사 결과
+ * @param checkedUsers 검사한 유저 수
+ * @param scannedHistories 이번 검사에서 새로 읽은 히스토리 수 (체크포인트 이전 히스토리는 다시 읽지 않음)
+ * @param recheckedUsers 락 없이 비교한 결과가 달라 유저 락 안에서 다시 검사한 유저 수
+ * @param mismatchCount 불일치 유저 수
+ * @param mismatches 불일치 유저 목록 (최대 1000명)
+ * @param elapsedMillis 소요 시간
+ */
+public record ReconcileReport(
+    int checkedUsers,
+    long scannedHistories,
+    int recheckedUsers,
+    int mismatchCount,
+    List<BalanceMismatch> mismatches,
+    long elapsedMillis
+) {
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.reconcile;
+
+/**
+ * 포인트 정합성 검사 상태
+ * - IDLE : 아직 검사하지 않음
+ * - RUNNING : 검사 중
+ * - COMPLETED : 마지막 검사 완료
+ * - FAILED : 마지막 검사 실패
+ */
+public enum ReconcileState {
+    IDLE, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.reconcile;
+
+/**
+ * 포인트 정합성 검사 진행 상황
+ * @param state 검사 상태
+ * @param repair 불일치 유저의 포인트를 복구하는 검사인지 여부
+ * @param startedMillis 검사 시작 시각 (검사하지 않았으면 0)
+ * @param report 마지막 검사 결과 (완료된 경우에만)
+ * @param errorMessage 실패 원인 (실패한 경우에만)
+ */
+public record ReconcileStatus(
+    ReconcileState state,
+    boolean repair,
+    long startedMillis,
+    ReconcileReport report,
+    String errorMessage
+) {
+
+    public static ReconcileStatus idle() {
+        return new ReconcileStatus(ReconcileState.IDLE, false, 0L, null, null);
+    }
+
+    public static ReconcileStatus running(boolean repair) {
+        return new ReconcileStatus(ReconcileState.RUNNING, repair, System.currentTimeMillis(), null, null);
+    }
+
+    public ReconcileStatus completed(ReconcileReport report) {
+        return new ReconcileStatus(ReconcileState.COMPLETED, repair, startedMillis, report, null);
+    }
+
+    public ReconcileStatus failed(String errorMessage) {
+        return new ReconcileStatus(ReconcileState.FAILED, repair, startedMillis, null, errorMessage);
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.config.PointShardPolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * SHARDED 모드에서 유저 ID를 해시로 나눠 샤드별 단일 스레드에서 작업을 실행합니다.<br>
+ * 같은 유저의 작업은 항상 같은 샤드에서 제출 순서대로 실행되므로 유저 락이 필요 없습니다.<br>
+ * 샤드 스레드 안에서 다른 샤드 작업을 기다리면 교착될 수 있으므로, 작업 안에서 submit 결과를 기다리지 않습니다.<br>
+ * 샤드별 실행 대기 작업 수는 point.shard.queue.depth 게이지로 확인합니다.
+ */
+@Component
+public class PointShardEngine {
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor[] shards;
+
+    public PointShardEngine(PointExecution pointExecution, PointShardPolicy pointShardPolicy, PointMetrics pointMetrics) {
+        this.enabled = pointExecution.mode() == PointExecutionMode.SHARDED;
+        this.shards = new ThreadPoolExecutor[enabled ? pointShardPolicy.shardCount() : 0];
+
+        for (int i = 0; i < shards.length; i++) {
+            String threadName = "point-shard-" + i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            pointMetrics.registerShardQueue(i, shards[i].getQueue());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 유저의 샤드에 작업 제출
+     * @param userId 유저 ID
+     * @param task 샤드 스레드에서 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, shards[shardIndex(userId)]);
+    }
+
+    /**
+     * 유저의 샤드에서 작업을 실행하고 결과를 기다립니다.<br>
+     * 작업에서 발생한 RuntimeException은 감싸지 않고 그대로 던집니다.
+     * @param userId 유저 ID
+     * @param task 샤드 스레드에서 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(long userId, Supplier<T> task) {
+        try {
+            return submit(userId, task).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * @return 샤드별 실행 대기 중인 작업 수
+     */
+    public int[] queueDepths() {
+        int[] depths = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            depths[i] = shards[i].getQueue().size();
+        }
+        return depths;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    int shardIndex(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) ((hash >>> 32) % shards.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 포인트 잔액 스냅샷 파일 형식입니다.<br>
+ * [매직 넘버, 버전, 저널 순번, 생성 시각, 유저 수] 헤더 뒤에 유저별 [유저 ID, 포인트, 변경 시각]을 24 바이트씩 기록하고,
+ * 마지막에 앞의 모든 바이트에 대한 CRC32C를 기록합니다.<br>
+ * 임시 파일에 모두 기록하고 동기화한 후 원자적으로 교체하므로, 읽는 쪽은 항상 완전한 스냅샷 하나만 봅니다.<br>
+ * 읽을 때는 파일 전체를 한 번에 매핑하지 않고 MAP_BYTES 단위로 나누어 매핑하므로, 2GB가 넘는 스냅샷도 읽을 수 있습니다.
+ */
+public final class PointSnapshotFile {
+
+    private static final int MAGIC = 0x50534E50;
+    private static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int ENTRY_BYTES = 24;
+    private static final int CHECKSUM_BYTES = 4;
+    private static final int BUFFER_BYTES = 1 << 16;
+    /**
+     * 한 번에 매핑하는 크기 (항목 크기의 배수이므로, 헤더 다음부터 나누면 항목이 두 매핑에 걸치지 않음)
+     */
+    static final long MAP_BYTES = (long) ENTRY_BYTES << 22;
+
+    private PointSnapshotFile() {
+    }
+
+    /**
+     * 스냅샷의 유저 포인트 처리
+     */
+    @FunctionalInterface
+    public interface BalanceConsumer {
+        void accept(long userId, long point, long updateMillis);
+    }
+
+    /**
+     * 스냅샷 기록<br>
+     * 1. 같은 디렉토리의 임시 파일에 헤더와 유저 포인트 기록<br>
+     * 2. 체크섬 기록 후 디스크 동기화<br>
+     * 3. 스냅샷 파일을 임시 파일로 원자적 교체<br>
+     * @param path 스냅샷 파일 경로
+     * @param journalSequence 스냅샷이 반영한 마지막 저널 순번
+     * @param entries 유저별 [유저 ID, 포인트, 변경 시각]을 이어 붙인 배열
+     * @return 스냅샷 파일 크기 (바이트)
+     */
+    public static long write(Path path, long journalSequence, long[] entries) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_BYTES));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(journalSequence);
+            output.writeLong(System.currentTimeMillis());
+            output.writeLong(entries.length / 3);
+
+            for (long value : entries) {
+                output.writeLong(value);
+            }
+            output.flush();
+            output.writeInt((int) crc.getValue());
+            output.flush();
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return HEADER_BYTES + (long) entries.length * Long.BYTES + CHECKSUM_BYTES;
+    }
+
+    /**
+     * 스냅샷 읽기<br>
+     * 1. 파일 크기, 매직 넘버, 버전, 체크섬을 모두 검증<br>
+     * 2. 검증에 성공한 경우에만 유저 포인트를 순서대로 전달<br>
+     * @param path 스냅샷 파일 경로
+     * @param consumer 유저 포인트 처리
+     * @return 스냅샷이 반영한 마지막 저널 순번 (스냅샷이 없으면 0)
+     */
+    public static long read(Path path, BalanceConsumer consumer) throws IOException {
+        return read(path, consumer, MAP_BYTES);
+    }
+
+    static long read(Path path, BalanceConsumer consumer, long mapBytes) throws IOException {
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CHECKSUM_BYTES) {
+                throw new IOException("스냅샷 파일이 손상되었습니다.");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+
+            long userCount = header.getLong(24);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || userCount < 0 || userCount > (size - HEADER_BYTES - CHECKSUM_BYTES) / ENTRY_BYTES
+                || size != HEADER_BYTES + userCount * ENTRY_BYTES + CHECKSUM_BYTES) {
+                throw new IOException("스냅샷 파일이 손상되었습니다.");
+            }
+
+            long dataEnd = size - CHECKSUM_BYTES;
+            CRC32C crc = new CRC32C();
+            for (long position = 0; position < dataEnd; position += mapBytes) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(mapBytes, dataEnd - position)));
+            }
+            if ((int) crc.getValue() != channel.map(FileChannel.MapMode.READ_ONLY, dataEnd, CHECKSUM_BYTES).getInt(0)) {
+                throw new IOException("스냅샷 파일의 체크섬이 일치하지 않습니다.");
+            }
+
+            for (long position = HEADER_BYTES; position < dataEnd; position += mapBytes) {
+                MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(mapBytes, dataEnd - position));
+                for (int offset = 0; offset < entries.limit(); offset += ENTRY_BYTES) {
+                    consumer.accept(entries.getLong(offset), entries.getLong(offset + 8), entries.getLong(offset + 16));
+                }
+            }
+            return header.getLong(8);
+        }
+    }
+}
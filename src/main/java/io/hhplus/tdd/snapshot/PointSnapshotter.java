@@ -0,0 +1,130 @@
+package io.hhplus.tdd.snapshot;
+
+import io.hhplus.tdd.config.PointSnapshotPolicy;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.journal.PointJournal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주기적으로 모든 유저의 포인트를 스냅샷 파일에 기록합니다.<br>
+ * 유저마다 포인트를 조회하지 않고, 유저 포인트 저장소(ConcurrentUserPointTable)를 세그먼트별로 한 번에 복사하므로 잔액을 따로 보관하지 않습니다.<br>
+ * 쓰기를 멈추지 않고 복사하므로 스냅샷은 한 시점의 상태가 아닙니다. (fuzzy snapshot)<br>
+ * 대신 복사 전에 저널 순번을 먼저 기록해 두고, 저널 기록은 변경 이후의 잔액을 담고 있으므로
+ * 복구 시 그 순번 이후의 저널을 다시 반영하면 유저마다 마지막 잔액으로 수렴합니다.<br>
+ * 스냅샷은 잔액만 담고, 히스토리는 저널 전체로 복구합니다. 저널 또는 ConcurrentUserPointTable을 사용하지 않으면 스냅샷도 사용하지 않습니다.
+ */
+@Component
+@Slf4j
+public class PointSnapshotter {
+
+    private final PointSnapshotPolicy pointSnapshotPolicy;
+    private final PointJournal pointJournal;
+    private final ConcurrentUserPointTable userPointTable;
+    private final boolean enabled;
+    private final ReentrantLock lock = new ReentrantLock();
+    private ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(PointSnapshotPolicy pointSnapshotPolicy, PointJournal pointJournal, UserPointTable userPointTable) {
+        this.pointSnapshotPolicy = pointSnapshotPolicy;
+        this.pointJournal = pointJournal;
+        this.userPointTable = userPointTable instanceof ConcurrentUserPointTable concurrentTable ? concurrentTable : null;
+        this.enabled = pointSnapshotPolicy.enabled() && pointJournal != null && pointJournal.isEnabled() && this.userPointTable != null;
+        if (pointSnapshotPolicy.enabled() && !enabled) {
+            log.warn("포인트 저널과 concurrent 유저 포인트 저장소를 함께 사용할 때만 스냅샷을 사용합니다.");
+        }
+    }
+
+    /**
+     * 시작 시 복구가 끝난 후부터 주기적인 스냅샷을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        long intervalMillis = pointSnapshotPolicy.interval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 스냅샷 기록<br>
+     * 1. 현재까지의 저널 순번 기록 후, 그 순번까지의 저널 기록을 디스크에 동기화<br>
+     * 2. 유저 포인트 저장소를 세그먼트별로 복사 (1의 순번까지의 변경은 모두 반영되어 있음, 이후의 변경도 일부 반영될 수 있음)<br>
+     * 3. 스냅샷 파일 기록 후 원자적 교체<br>
+     * @return 스냅샷이 반영한 마지막 저널 순번
+     */
+    public long snapshot() {
+        lock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            // 포인트는 저장소에 반영한 후 저널에 기록하므로, 순번을 먼저 읽으면 그 순번까지의 변경은 복사본에 모두 포함됨
+            long journalSequence = pointJournal.lastSequence();
+            pointJournal.sync();
+
+            long[] entries = userPointTable.toArray();
+            long bytes;
+            try {
+                bytes = PointSnapshotFile.write(pointSnapshotPolicy.path(), journalSequence, entries);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("포인트 스냅샷을 기록할 수 없습니다.", ex);
+            }
+
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("포인트 스냅샷 기록 완료: 유저 {}명, {} bytes, 저널 순번 {}, {}ms",
+                entries.length / 3, bytes, journalSequence, elapsedMillis);
+            return journalSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 스냅샷 읽기
+     * @param consumer 유저 포인트 처리
+     * @return 스냅샷이 반영한 마지막 저널 순번 (스냅샷이 없으면 0)
+     */
+    public long load(PointSnapshotFile.BalanceConsumer consumer) {
+        try {
+            return PointSnapshotFile.read(pointSnapshotPolicy.path(), consumer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("포인트 스냅샷을 읽을 수 없습니다.", ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException ex) {
+            log.error("포인트 스냅샷 실패: " + ex.getMessage());
+        }
+    }
+}
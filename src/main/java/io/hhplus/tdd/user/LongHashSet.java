@@ -0,0 +1,124 @@
+package io.hhplus.tdd.user;
+
+import java.util.function.LongConsumer;
+
+/**
+ * long 값을 박싱 없이 저장하는 open addressing(linear probing) 해시 셋입니다.<br>
+ * 0은 빈 슬롯 표시로 사용하므로 별도 플래그로 관리합니다.<br>
+ * 스레드 안전하지 않으며, 동기화는 사용하는 쪽에서 처리합니다.
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private long[] slots;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.slots = new long[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * @param value 추가할 값
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        if (!insert(slots, value)) {
+            return false;
+        }
+
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * 슬롯 배열을 지역 변수로 읽고 최대 배열 길이만큼만 탐색하므로, 쓰기와 동시에 호출되어도 종료가 보장됩니다.
+     * @param value 찾을 값
+     * @return 포함 여부
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        long[] current = slots;
+        int mask = current.length - 1;
+        int index = hash(value) & mask;
+        for (int probe = 0; probe < current.length; probe++) {
+            long slot = current[index];
+            if (slot == value) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    private boolean insert(long[] target, long value) {
+        int mask = target.length - 1;
+        int index = hash(value) & mask;
+        while (target[index] != EMPTY) {
+            if (target[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        target[index] = value;
+        return true;
+    }
+
+    private void resize() {
+        long[] resized = new long[slots.length << 1];
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                insert(resized, slot);
+            }
+        }
+        slots = resized;
+        resizeThreshold = (int) (resized.length * LOAD_FACTOR);
+    }
+
+    private static int hash(long value) {
+        // murmur3 fmix64
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93c185ce4ebL;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.user;
+
+import io.hhplus.tdd.database.PointHistoryIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 포인트를 충전/사용한 적이 있는 유저 ID 목록입니다.<br>
+ * 유저 ID를 박싱 없이 LongHashSet에 저장하고, 조회는 StampedLock의 낙관적 읽기로 락 없이 처리합니다.
+ */
+@Component
+public class UserRegistry {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final PointHistoryIndex pointHistoryIndex;
+    private final StampedLock lock = new StampedLock();
+    private final LongHashSet userIds = new LongHashSet(INITIAL_CAPACITY);
+
+    public UserRegistry(PointHistoryIndex pointHistoryIndex) {
+        this.pointHistoryIndex = pointHistoryIndex;
+    }
+
+    /**
+     * 애플리케이션 시작 시 히스토리가 있는 유저를 모두 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        pointHistoryIndex.forEachUserId(this::register);
+    }
+
+    /**
+     * 유저 등록<br>
+     * 1. 이미 등록된 유저면 쓰기 락 없이 반환<br>
+     * 2. 쓰기 락을 획득한 후 등록<br>
+     * @param userId 유저 ID
+     * @return 새로 등록되었으면 true
+     */
+    public boolean register(long userId) {
+        if (contains(userId)) {
+            return false;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            return userIds.add(userId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 유저 등록 여부 조회<br>
+     * 1. 낙관적 읽기로 조회<br>
+     * 2. 조회하는 동안 등록이 있었다면 읽기 락을 획득한 후 다시 조회<br>
+     * @param userId 유저 ID
+     * @return 등록 여부
+     */
+    public boolean contains(long userId) {
+        long stamp = lock.tryOptimisticRead();
+        boolean contains = userIds.contains(userId);
+        if (lock.validate(stamp)) {
+            return contains;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return userIds.contains(userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 등록된 유저 ID 목록을 복사해서 반환합니다.<br>
+     * 복사하는 동안만 읽기 락을 잡으므로, 이후의 등록은 반환한 목록에 반영되지 않습니다.
+     * @return 등록된 유저 ID 목록 (순서 없음)
+     */
+    public long[] userIds() {
+        long stamp = lock.readLock();
+        try {
+            long[] copied = new long[userIds.size()];
+            int[] index = {0};
+            userIds.forEach(userId -> copied[index[0]++] = userId);
+            return copied;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return userIds.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
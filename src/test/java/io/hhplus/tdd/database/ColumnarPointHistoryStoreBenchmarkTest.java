@@ -0,0 +1,67 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.PointHistoryStorePolicy.ColumnStorage;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PointHistoryTable과 같은 방식(ArrayList<PointHistory>)으로 저장할 때와 컬럼 저장소의 힙 사용량을 비교합니다.<br>
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다. (행 수 : -Dbenchmark.maxRows)
+ */
+@Tag("benchmark")
+class ColumnarPointHistoryStoreBenchmarkTest {
+
+    private static final int USER_COUNT = 100_000;
+
+    @Test
+    void 컬럼_저장소는_객체_목록보다_행당_힙_사용량이_작다() {
+        int rows = (int) Math.min(Long.getLong("benchmark.maxRows", 10_000_000L), Integer.MAX_VALUE - 8);
+
+        long baseline = usedHeap();
+        List<PointHistory> objectTable = new ArrayList<>();
+        for (long id = 1; id <= rows; id++) {
+            objectTable.add(new PointHistory(id, id % USER_COUNT, 100L, TransactionType.CHARGE, id));
+        }
+        long objectBytes = usedHeap() - baseline;
+        System.out.printf("rows=%,d objects=%,d bytes (%.1f bytes/row)%n", rows, objectBytes, (double) objectBytes / rows);
+        assertThat(objectTable).hasSize(rows);
+        objectTable = null;
+
+        baseline = usedHeap();
+        ColumnarPointHistoryStore heapStore = new ColumnarPointHistoryStore(ColumnStorage.HEAP);
+        for (long id = 1; id <= rows; id++) {
+            heapStore.append(id % USER_COUNT, 100L, TransactionType.CHARGE, id);
+        }
+        long columnarBytes = usedHeap() - baseline;
+        System.out.printf("rows=%,d columnar(heap)=%,d bytes (%.1f bytes/row)%n", rows, columnarBytes, (double) columnarBytes / rows);
+        assertThat(heapStore.size()).isEqualTo(rows);
+        heapStore = null;
+
+        baseline = usedHeap();
+        ColumnarPointHistoryStore offHeapStore = new ColumnarPointHistoryStore(ColumnStorage.OFF_HEAP);
+        for (long id = 1; id <= rows; id++) {
+            offHeapStore.append(id % USER_COUNT, 100L, TransactionType.CHARGE, id);
+        }
+        long offHeapHeapBytes = usedHeap() - baseline;
+        System.out.printf("rows=%,d columnar(off-heap)=%,d heap bytes + %,d direct bytes%n",
+            rows, offHeapHeapBytes, offHeapStore.allocatedBytes());
+        assertThat(offHeapStore.size()).isEqualTo(rows);
+
+        assertThat(columnarBytes).isLessThan(objectBytes);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.PointHistoryStorePolicy;
+import io.hhplus.tdd.config.PointHistoryStorePolicy.ColumnStorage;
+import io.hhplus.tdd.config.PointHistoryStorePolicy.StoreType;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ColumnarPointHistoryStoreTest {
+
+    @ParameterizedTest
+    @EnumSource(ColumnStorage.class)
+    void 추가한_히스토리는_ID로_같은_값이_조회된다(ColumnStorage storage) {
+        // given
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore(storage);
+
+        // when
+        PointHistory charged = store.append(1L, 100L, TransactionType.CHARGE, 10L);
+        PointHistory used = store.append(2L, 50L, TransactionType.USE, 20L);
+
+        // then
+        assertThat(store.selectById(charged.id())).isEqualTo(charged);
+        assertThat(store.selectById(used.id())).isEqualTo(used);
+        assertThat(store.selectById(3L)).isNull();
+        assertThat(store.size()).isEqualTo(2L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ColumnStorage.class)
+    void 세그먼트_크기를_넘어도_모든_행이_순서대로_조회된다(ColumnStorage storage) {
+        // given
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore(storage);
+        int rows = ColumnarPointHistoryStore.SEGMENT_ROWS * 2 + 10;
+
+        // when
+        for (int i = 1; i <= rows; i++) {
+            store.append(i % 3, i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        // then
+        assertThat(store.selectById(rows)).isEqualTo(new PointHistory(rows, rows % 3, rows, TransactionType.USE, rows));
+        assertThat(store.selectAllByUserId(0L)).hasSize(rows / 3);
+        assertThat(store.allocatedBytes()).isEqualTo(3L * ColumnarPointHistoryStore.SEGMENT_ROWS * (Long.BYTES * 4 + 1));
+    }
+
+    @Test
+    void 컬럼_저장소를_사용하는_인덱스는_ID만_보관하고_조회할_때_히스토리를_만든다() {
+        // given
+        ColumnarPointHistoryTable columnarTable = new ColumnarPointHistoryTable(
+            new PointHistoryStorePolicy(StoreType.COLUMNAR, ColumnStorage.HEAP));
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(columnarTable);
+        long userId = 1L;
+
+        // when
+        pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryIndex.insert(2L, 200L, TransactionType.CHARGE, 2L);
+        PointHistory second = pointHistoryIndex.insert(userId, 50L, TransactionType.USE, 3L);
+        List<PointHistory> afterFirst = pointHistoryIndex.selectByUserIdAfter(userId, 1L, 10);
+
+        // then
+        assertThat(pointHistoryIndex.selectAllByUserId(userId))
+            .extracting("amount", "type")
+            .containsExactly(
+                tuple(100L, TransactionType.CHARGE),
+                tuple(50L, TransactionType.USE)
+            );
+        assertThat(afterFirst).containsExactly(second);
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentUserPointStoreTest {
+
+    @Test
+    void 저장한_포인트는_유저_ID로_조회되고_없는_유저는_null을_반환한다() {
+        // given
+        ConcurrentUserPointStore store = new ConcurrentUserPointStore(4, 16);
+
+        // when
+        store.put(1L, 100L, 10L);
+        store.put(1L, 200L, 20L);
+        store.put(0L, 300L, 30L);
+
+        // then
+        assertThat(store.get(1L)).isEqualTo(new UserPoint(1L, 200L, 20L));
+        assertThat(store.get(0L)).isEqualTo(new UserPoint(0L, 300L, 30L));
+        assertThat(store.get(2L)).isNull();
+        assertThat(store.size()).isEqualTo(2L);
+    }
+
+    @Test
+    void 초기_크기보다_많은_유저를_저장해도_모두_조회된다() {
+        // given
+        ConcurrentUserPointStore store = new ConcurrentUserPointStore(4, 16);
+        int userCount = 100_000;
+
+        // when
+        for (long userId = 1; userId <= userCount; userId++) {
+            store.put(userId, userId * 10, userId);
+        }
+
+        // then
+        assertThat(store.size()).isEqualTo(userCount);
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertThat(store.get(userId).point()).isEqualTo(userId * 10);
+        }
+    }
+
+    @Test
+    void 여러_스레드가_서로_다른_유저를_동시에_저장해도_유실되지_않고_조회_중에_중간_상태가_보이지_않는다() throws InterruptedException {
+        // given
+        ConcurrentUserPointStore store = new ConcurrentUserPointStore(8, 16);
+        int threadCount = 8;
+        int usersPerThread = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger tornReads = new AtomicInteger();
+
+        // when
+        executorService.submit(() -> {
+            while (writing.get()) {
+                for (long userId = 1; userId <= 1_000; userId++) {
+                    UserPoint userPoint = store.get(userId);
+                    if (userPoint != null && userPoint.point() != userPoint.updateMillis()) {
+                        tornReads.incrementAndGet();
+                    }
+                }
+            }
+        });
+        for (int t = 0; t < threadCount; t++) {
+            long firstUserId = (long) t * usersPerThread + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int round = 1; round <= 3; round++) {
+                        for (long userId = firstUserId; userId < firstUserId + usersPerThread; userId++) {
+                            store.put(userId, round, round);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        writing.set(false);
+        executorService.shutdown();
+
+        // then
+        assertThat(store.size()).isEqualTo((long) threadCount * usersPerThread);
+        assertThat(tornReads.get()).isZero();
+        for (long userId = 1; userId <= (long) threadCount * usersPerThread; userId++) {
+            assertThat(store.get(userId).point()).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void 모든_항목을_유저_ID_포인트_변경_시각_순서의_배열로_복사한다() {
+        // given
+        ConcurrentUserPointStore store = new ConcurrentUserPointStore(4, 16);
+        for (long userId = 0; userId < 100; userId++) {
+            store.put(userId, userId * 10, userId + 1);
+        }
+
+        // when
+        long[] entries = store.toArray();
+
+        // then
+        assertThat(entries).hasSize(300);
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < entries.length; i += 3) {
+            userIds.add(entries[i]);
+            assertThat(entries[i + 1]).isEqualTo(entries[i] * 10);
+            assertThat(entries[i + 2]).isEqualTo(entries[i] + 1);
+        }
+        assertThat(userIds).hasSize(100);
+    }
+}
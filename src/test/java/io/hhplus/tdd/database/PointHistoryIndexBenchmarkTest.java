@@ -0,0 +1,72 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 히스토리 수가 늘어날 때 유저별 히스토리 조회 시간을 비교합니다.<br>
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다. (최대 행 수 : -Dbenchmark.maxRows)
+ */
+@Tag("benchmark")
+class PointHistoryIndexBenchmarkTest {
+
+    private static final long TARGET_USER_ID = 1L;
+    private static final int TARGET_USER_HISTORY_COUNT = 100;
+    private static final int USER_COUNT = 100_000;
+    private static final int INDEX_LOOKUP_COUNT = 10_000;
+    private static final int SCAN_LOOKUP_COUNT = 10;
+
+    @Test
+    void 전체_히스토리가_늘어나도_유저별_히스토리_조회_시간은_일정하다() {
+        long maxRows = Long.getLong("benchmark.maxRows", 10_000_000L);
+        Map<Long, Long> indexNanosByRows = new LinkedHashMap<>();
+
+        for (long rows = 10_000; rows <= maxRows; rows *= 10) {
+            PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(new PointHistoryTable());
+            List<PointHistory> table = new ArrayList<>();
+            fill(pointHistoryIndex, table, rows);
+
+            long indexNanos = measure(INDEX_LOOKUP_COUNT, () -> pointHistoryIndex.selectAllByUserId(TARGET_USER_ID));
+            long scanNanos = measure(SCAN_LOOKUP_COUNT, () -> table.stream().filter(pointHistory -> pointHistory.userId() == TARGET_USER_ID).toList());
+            indexNanosByRows.put(rows, indexNanos);
+
+            System.out.printf("rows=%,d index=%,dns/op fullScan=%,dns/op%n", rows, indexNanos, scanNanos);
+        }
+
+        long smallest = indexNanosByRows.values().iterator().next();
+        indexNanosByRows.values()
+            .forEach(indexNanos -> assertThat(indexNanos).isLessThan(Math.max(smallest, 1_000L) * 10));
+    }
+
+    private void fill(PointHistoryIndex pointHistoryIndex, List<PointHistory> table, long rows) {
+        long interval = rows / TARGET_USER_HISTORY_COUNT;
+        for (long id = 1; id <= rows; id++) {
+            long userId = id % interval == 0 ? TARGET_USER_ID : 2 + id % USER_COUNT;
+            PointHistory pointHistory = new PointHistory(id, userId, 100L, TransactionType.CHARGE, id);
+            pointHistoryIndex.index(pointHistory);
+            table.add(pointHistory);
+        }
+    }
+
+    private long measure(int lookupCount, Runnable lookup) {
+        // JIT 워밍업
+        for (int i = 0; i < lookupCount; i++) {
+            lookup.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < lookupCount; i++) {
+            lookup.run();
+        }
+        return (System.nanoTime() - start) / lookupCount;
+    }
+}
@@ -0,0 +1,179 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointHistoryIndexTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+
+    @Test
+    void 히스토리를_추가하면_유저별로_추가한_순서대로_조회된다() {
+        // given
+        long userId = 1L;
+        long otherUserId = 2L;
+
+        // when
+        pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryIndex.insert(otherUserId, 200L, TransactionType.CHARGE, 2L);
+        pointHistoryIndex.insert(userId, 50L, TransactionType.USE, 3L);
+
+        // then
+        assertThat(pointHistoryIndex.selectAllByUserId(userId))
+            .extracting("userId", "amount", "type")
+            .containsExactly(
+                tuple(userId, 100L, TransactionType.CHARGE),
+                tuple(userId, 50L, TransactionType.USE)
+            );
+    }
+
+    @Test
+    void 인덱스_조회_결과는_테이블_조회_결과와_같다() {
+        // given
+        long userId = 3L;
+        pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryIndex.insert(userId, 30L, TransactionType.USE, 2L);
+
+        // when
+        List<PointHistory> pointHistories = pointHistoryIndex.selectAllByUserId(userId);
+
+        // then
+        assertThat(pointHistories).isEqualTo(pointHistoryTable.selectAllByUserId(userId));
+    }
+
+    @Test
+    void 히스토리가_없는_유저를_조회하면_빈_목록을_반환한다() {
+        // when
+        List<PointHistory> pointHistories = pointHistoryIndex.selectAllByUserId(4L);
+
+        // then
+        assertThat(pointHistories).isEmpty();
+    }
+
+    @Test
+    void 커서로_조회하면_커서_이후의_히스토리를_limit_개까지_반환한다() {
+        // given
+        long userId = 10L;
+        long otherUserId = 11L;
+        PointHistory first = pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryIndex.insert(otherUserId, 100L, TransactionType.CHARGE, 2L);
+        PointHistory second = pointHistoryIndex.insert(userId, 200L, TransactionType.CHARGE, 3L);
+        PointHistory third = pointHistoryIndex.insert(userId, 300L, TransactionType.CHARGE, 4L);
+
+        // when
+        List<PointHistory> firstPage = pointHistoryIndex.selectByUserIdAfter(userId, 0L, 2);
+        List<PointHistory> secondPage = pointHistoryIndex.selectByUserIdAfter(userId, firstPage.get(1).id(), 2);
+        List<PointHistory> lastPage = pointHistoryIndex.selectByUserIdAfter(userId, third.id(), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(first, second);
+        assertThat(secondPage).containsExactly(third);
+        assertThat(lastPage).isEmpty();
+    }
+
+    @Test
+    void 기간으로_조회하면_기간_내의_히스토리를_변경_시각_순으로_limit_개까지_반환한다() {
+        // given
+        long userId = 20L;
+        PointHistory first = pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 10L);
+        PointHistory second = pointHistoryIndex.insert(userId, 200L, TransactionType.CHARGE, 20L);
+        PointHistory third = pointHistoryIndex.insert(userId, 300L, TransactionType.CHARGE, 30L);
+        pointHistoryIndex.insert(userId, 400L, TransactionType.CHARGE, 40L);
+
+        // when
+        List<PointHistory> pointHistories = pointHistoryIndex.selectByUserIdBetween(userId, 10L, 40L, 10);
+        List<PointHistory> limited = pointHistoryIndex.selectByUserIdBetween(userId, 15L, 40L, 1);
+
+        // then
+        assertThat(pointHistories).containsExactly(first, second, third);
+        assertThat(limited).containsExactly(second);
+    }
+
+    @Test
+    void 변경_시각이_앞선_히스토리가_나중에_추가되어도_기간_조회는_변경_시각_순으로_반환한다() {
+        // given
+        long userId = 21L;
+        PointHistory late = pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 30L);
+        PointHistory early = pointHistoryIndex.insert(userId, 50L, TransactionType.USE, 10L);
+        PointHistory middle = pointHistoryIndex.insert(userId, 70L, TransactionType.CHARGE, 20L);
+
+        // when
+        List<PointHistory> pointHistories = pointHistoryIndex.selectByUserIdBetween(userId, 0L, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(pointHistories).containsExactly(early, middle, late);
+    }
+
+    @Test
+    void 통계를_조회하면_추가된_히스토리의_충전_사용_합계와_처음_마지막_시각을_반환한다() {
+        // given
+        long userId = 30L;
+        pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, 20L);
+        pointHistoryIndex.insert(userId, 30L, TransactionType.USE, 30L);
+        pointHistoryIndex.insert(userId, 50L, TransactionType.CHARGE, 10L);
+
+        // when
+        PointStats pointStats = pointHistoryIndex.selectStatsByUserId(userId);
+
+        // then
+        assertThat(pointStats).isEqualTo(new PointStats(userId, 150L, 30L, 3L, 10L, 30L));
+    }
+
+    @Test
+    void 히스토리가_없는_유저의_통계는_모두_0이다() {
+        // when
+        PointStats pointStats = pointHistoryIndex.selectStatsByUserId(31L);
+
+        // then
+        assertThat(pointStats).isEqualTo(PointStats.empty(31L));
+    }
+
+    @Test
+    void 여러_유저의_히스토리를_동시에_추가해도_히스토리_ID가_중복되거나_누락되지_않는다() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int historiesPerThread = 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = 40L + i;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < historiesPerThread; j++) {
+                        pointHistoryIndex.insert(userId, 100L, TransactionType.CHARGE, j);
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        // then
+        List<Long> ids = LongStream.range(40L, 40L + threadCount)
+            .boxed()
+            .flatMap(userId -> pointHistoryIndex.selectAllByUserId(userId).stream())
+            .map(PointHistory::id)
+            .toList();
+        assertThat(ids)
+            .hasSize(threadCount * historiesPerThread)
+            .doesNotHaveDuplicates()
+            .allMatch(id -> id >= 1 && id <= threadCount * historiesPerThread);
+    }
+}
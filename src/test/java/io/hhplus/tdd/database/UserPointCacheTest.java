@@ -0,0 +1,126 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.config.UserPointStorePolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPointCacheTest {
+
+    private final UserPointTable userPointTable = new UserPointTable();
+
+    @Test
+    void 포인트를_변경하면_이후_조회는_테이블을_거치지_않고_캐시에서_반환한다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCachePolicy(100), new PointMetrics(new SimpleMeterRegistry()));
+        long userId = 1L;
+
+        // when
+        UserPoint updatedUserPoint = userPointCache.insertOrUpdate(userId, 100L);
+        UserPoint userPoint = userPointCache.selectById(userId);
+
+        // then
+        assertThat(userPoint).isEqualTo(updatedUserPoint);
+        assertThat(userPointCache.hitCount()).isEqualTo(1L);
+        assertThat(userPointCache.missCount()).isZero();
+    }
+
+    @Test
+    void 캐시에_없는_유저를_조회하면_테이블에서_조회한_후_캐시에_추가한다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCachePolicy(100), new PointMetrics(new SimpleMeterRegistry()));
+        long userId = 2L;
+        userPointTable.insertOrUpdate(userId, 300L);
+
+        // when
+        UserPoint first = userPointCache.selectById(userId);
+        UserPoint second = userPointCache.selectById(userId);
+
+        // then
+        assertThat(first.point()).isEqualTo(300L);
+        assertThat(second).isEqualTo(first);
+        assertThat(userPointCache.missCount()).isEqualTo(1L);
+        assertThat(userPointCache.hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 캐시를_무효화하면_다음_조회는_테이블에서_다시_조회한다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCachePolicy(100), new PointMetrics(new SimpleMeterRegistry()));
+        long userId = 3L;
+        userPointCache.insertOrUpdate(userId, 100L);
+        userPointTable.insertOrUpdate(userId, 500L);
+
+        // when
+        userPointCache.invalidate(userId);
+        UserPoint userPoint = userPointCache.selectById(userId);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(500L);
+        assertThat(userPointCache.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래_사용되지_않은_유저부터_제거된다() {
+        // given
+        int maximumSize = 16;
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCachePolicy(maximumSize), new PointMetrics(new SimpleMeterRegistry()));
+
+        // when
+        for (long userId = 1; userId <= maximumSize * 2; userId++) {
+            userPointCache.insertOrUpdate(userId, userId);
+        }
+
+        // then
+        assertThat(userPointCache.size()).isLessThanOrEqualTo(maximumSize);
+    }
+
+    @Test
+    void 테이블을_조회하는_동안_포인트가_변경되고_캐시에서_제거되면_조회한_포인트를_캐시에_추가하지_않는다() {
+        // given
+        long userId = 4L;
+        AtomicReference<UserPointCache> cacheRef = new AtomicReference<>();
+        UserPointTable racingTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                UserPoint stale = super.selectById(id);
+                // 조회 결과를 캐시에 추가하기 전에 다른 스레드가 포인트를 변경하고 캐시에서 제거한 상황
+                cacheRef.get().insertOrUpdate(id, 500L);
+                cacheRef.get().invalidate(id);
+                return stale;
+            }
+        };
+        UserPointCache userPointCache = new UserPointCache(racingTable, new UserPointCachePolicy(100), new PointMetrics(new SimpleMeterRegistry()));
+        cacheRef.set(userPointCache);
+
+        // when
+        userPointCache.selectById(userId);
+
+        // then
+        assertThat(userPointCache.size()).isZero();
+        assertThat(userPointCache.selectById(userId).point()).isEqualTo(500L);
+    }
+
+    @Test
+    void 복구한_포인트는_테이블에_원래_변경_시각으로_저장되고_캐시에서_제거된다() {
+        // given
+        ConcurrentUserPointTable concurrentTable = new ConcurrentUserPointTable(new UserPointStorePolicy(UserPointStorePolicy.StoreType.CONCURRENT, 4));
+        UserPointCache userPointCache = new UserPointCache(concurrentTable, new UserPointCachePolicy(100), new PointMetrics(new SimpleMeterRegistry()));
+        long userId = 5L;
+        userPointCache.insertOrUpdate(userId, 100L);
+
+        // when
+        userPointCache.restore(userId, 700L, 70L);
+
+        // then
+        assertThat(userPointCache.size()).isZero();
+        assertThat(concurrentTable.selectById(userId)).isEqualTo(new UserPoint(userId, 700L, 70L));
+        assertThat(userPointCache.selectById(userId)).isEqualTo(new UserPoint(userId, 700L, 70L));
+    }
+}
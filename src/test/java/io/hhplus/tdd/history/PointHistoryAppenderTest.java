@@ -0,0 +1,93 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointHistoryAppenderTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+
+    private final PointHistoryAppender pointHistoryAppender = new PointHistoryAppender(new PointHistoryIndex(pointHistoryTable), new PointHistoryBuffer(4, 100), new PointMetrics(new SimpleMeterRegistry()));
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryAppender.shutdown();
+    }
+
+    @Test
+    void 같은_유저의_히스토리는_추가_요청한_순서대로_기록된다() {
+        // given
+        long userId = 1L;
+
+        // when
+        pointHistoryAppender.append(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryAppender.append(userId, 50L, TransactionType.USE, 2L);
+        pointHistoryAppender.append(userId, 30L, TransactionType.CHARGE, 3L);
+        pointHistoryAppender.flush(userId);
+
+        // then
+        List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(userId);
+        assertThat(pointHistories)
+            .extracting("amount", "type", "updateMillis")
+            .containsExactly(
+                tuple(100L, TransactionType.CHARGE, 1L),
+                tuple(50L, TransactionType.USE, 2L),
+                tuple(30L, TransactionType.CHARGE, 3L)
+            );
+    }
+
+    @Test
+    void flush_이후에는_요청한_히스토리가_모두_기록되어_있다() {
+        // given
+        long userId = 2L;
+        CompletableFuture<PointHistory> first = pointHistoryAppender.append(userId, 100L, TransactionType.CHARGE, 1L);
+        CompletableFuture<PointHistory> second = pointHistoryAppender.append(userId, 100L, TransactionType.CHARGE, 2L);
+
+        // when
+        pointHistoryAppender.flush(userId);
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(2);
+    }
+
+    @Test
+    void 기록_대기_중인_히스토리가_없는_유저를_flush하면_바로_반환한다() {
+        // given
+        long userId = 3L;
+
+        // when
+        pointHistoryAppender.flush(userId);
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    void 버퍼가_가득_차면_awaitCapacity는_대기_중인_히스토리가_기록될_때까지_대기한다() {
+        // given
+        PointHistoryAppender fullAppender = new PointHistoryAppender(new PointHistoryIndex(new PointHistoryTable()), new PointHistoryBuffer(1, 1), new PointMetrics(new SimpleMeterRegistry()));
+        CompletableFuture<PointHistory> pending = fullAppender.append(4L, 100L, TransactionType.CHARGE, 1L);
+
+        // when
+        fullAppender.awaitCapacity();
+
+        // then
+        assertThat(pending).isCompleted();
+        fullAppender.shutdown();
+    }
+}
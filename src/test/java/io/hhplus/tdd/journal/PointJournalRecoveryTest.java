@@ -0,0 +1,149 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointSnapshotPolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.config.UserPointStorePolicy;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.snapshot.PointSnapshotFile;
+import io.hhplus.tdd.snapshot.PointSnapshotter;
+import io.hhplus.tdd.user.UserRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointJournalRecoveryTest {
+
+    @TempDir
+    private Path directory;
+
+    private PointJournalPolicy pointJournalPolicy;
+    private PointHistoryTable pointHistoryTable;
+    private ConcurrentUserPointTable userPointTable;
+    private UserPointCache userPointCache;
+    private PointHistoryIndex pointHistoryIndex;
+    private UserRegistry userRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pointJournalPolicy = new PointJournalPolicy(true, directory.resolve("point-journal.dat"), JournalFsyncPolicy.ALWAYS, Duration.ofMillis(10), DataSize.ofKilobytes(64));
+
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        pointHistoryTable = new PointHistoryTable();
+        pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        userPointTable = new ConcurrentUserPointTable(new UserPointStorePolicy(UserPointStorePolicy.StoreType.CONCURRENT, 4));
+        userPointCache = new UserPointCache(userPointTable, new UserPointCachePolicy(100), pointMetrics);
+        userRegistry = new UserRegistry(pointHistoryIndex);
+    }
+
+    private PointJournalRecovery recovery(PointJournal pointJournal, boolean snapshotEnabled) {
+        PointSnapshotPolicy pointSnapshotPolicy = new PointSnapshotPolicy(snapshotEnabled, directory.resolve("point-snapshot.dat"), Duration.ofMinutes(5));
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(pointSnapshotPolicy, pointJournal, userPointTable);
+        return new PointJournalRecovery(pointJournal, pointSnapshotter, userPointCache, pointHistoryIndex, userRegistry);
+    }
+
+    @Test
+    void 저널을_재생하면_유저별_마지막_잔액과_히스토리가_복구된다() {
+        // given
+        PointJournal previous = new PointJournal(pointJournalPolicy);
+        previous.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        previous.append(2L, 300L, TransactionType.CHARGE, 300L, 11L);
+        previous.append(1L, 40L, TransactionType.USE, 60L, 12L);
+        previous.awaitDurable();
+        previous.close();
+
+        PointJournal pointJournal = new PointJournal(pointJournalPolicy);
+
+        // when
+        long recordCount = recovery(pointJournal, false).recover();
+
+        // then
+        assertThat(recordCount).isEqualTo(3L);
+        assertThat(userPointCache.selectById(1L).point()).isEqualTo(60L);
+        assertThat(userPointCache.selectById(2L).point()).isEqualTo(300L);
+        assertThat(userRegistry.contains(1L)).isTrue();
+        assertThat(userRegistry.contains(2L)).isTrue();
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+            .extracting("amount", "type", "updateMillis")
+            .containsExactly(
+                tuple(100L, TransactionType.CHARGE, 10L),
+                tuple(40L, TransactionType.USE, 12L)
+            );
+
+        pointJournal.close();
+    }
+
+    @Test
+    void 잔액_보정_기록은_히스토리_없이_잔액만_복구한다() {
+        // given
+        PointJournal previous = new PointJournal(pointJournalPolicy);
+        previous.append(4L, 100L, TransactionType.CHARGE, 100L, 10L);
+        previous.appendBalanceCorrection(4L, 70L, 11L);
+        previous.awaitDurable();
+        previous.close();
+
+        PointJournal pointJournal = new PointJournal(pointJournalPolicy);
+
+        // when
+        recovery(pointJournal, false).recover();
+
+        // then
+        assertThat(userPointCache.selectById(4L).point()).isEqualTo(70L);
+        assertThat(pointHistoryTable.selectAllByUserId(4L))
+            .extracting("amount", "type")
+            .containsExactly(tuple(100L, TransactionType.CHARGE));
+
+        pointJournal.close();
+    }
+
+    @Test
+    void 스냅샷이_있으면_포인트는_스냅샷_이후의_저널로만_복구하고_히스토리는_저널_전체로_복구한다() throws IOException {
+        // given
+        PointJournal previous = new PointJournal(pointJournalPolicy);
+        previous.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        previous.append(2L, 300L, TransactionType.CHARGE, 300L, 11L);
+        // 스냅샷은 순번 2까지 반영했지만, 조회 도중 반영된 순번 3의 잔액(유저 1 = 60)도 담고 있음
+        PointSnapshotFile.write(directory.resolve("point-snapshot.dat"), 2L, new long[]{1L, 60L, 12L, 2L, 300L, 11L});
+        previous.append(1L, 40L, TransactionType.USE, 60L, 12L);
+        previous.append(3L, 500L, TransactionType.CHARGE, 500L, 13L);
+        previous.awaitDurable();
+        previous.close();
+
+        PointJournal pointJournal = new PointJournal(pointJournalPolicy);
+
+        // when
+        long recordCount = recovery(pointJournal, true).recover();
+
+        // then
+        assertThat(recordCount).isEqualTo(4L);
+        assertThat(userPointCache.selectById(1L).point()).isEqualTo(60L);
+        assertThat(userPointCache.selectById(2L).point()).isEqualTo(300L);
+        assertThat(userPointCache.selectById(3L).point()).isEqualTo(500L);
+        assertThat(userPointCache.selectById(2L).updateMillis()).isEqualTo(11L);
+        assertThat(userPointCache.selectById(3L).updateMillis()).isEqualTo(13L);
+        assertThat(userRegistry.contains(2L)).isTrue();
+        assertThat(pointHistoryIndex.selectStatsByUserId(2L))
+            .extracting("totalCharged", "transactionCount")
+            .containsExactly(300L, 1L);
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+            .extracting("amount", "type")
+            .containsExactly(tuple(100L, TransactionType.CHARGE), tuple(40L, TransactionType.USE));
+
+        pointJournal.close();
+    }
+}
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    private PointJournal open(JournalFsyncPolicy fsync, DataSize chunkSize) {
+        return new PointJournal(new PointJournalPolicy(true, directory.resolve("point-journal.dat"), fsync, Duration.ofMillis(10), chunkSize));
+    }
+
+    @Test
+    void 다시_열면_추가한_기록을_순서대로_재생한다() {
+        // given
+        PointJournal pointJournal = open(JournalFsyncPolicy.ALWAYS, DataSize.ofKilobytes(64));
+        pointJournal.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        pointJournal.append(1L, 30L, TransactionType.USE, 70L, 11L);
+        pointJournal.append(2L, 500L, TransactionType.CHARGE, 500L, 12L);
+        pointJournal.awaitDurable();
+        pointJournal.close();
+
+        // when
+        PointJournal reopened = open(JournalFsyncPolicy.ALWAYS, DataSize.ofKilobytes(64));
+        List<JournalRecord> records = new ArrayList<>();
+        long count = reopened.replay(records::add);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        assertThat(records)
+            .extracting("sequence", "userId", "amount", "type", "balance", "updateMillis")
+            .containsExactly(
+                tuple(1L, 1L, 100L, JournalRecordType.CHARGE, 100L, 10L),
+                tuple(2L, 1L, 30L, JournalRecordType.USE, 70L, 11L),
+                tuple(3L, 2L, 500L, JournalRecordType.CHARGE, 500L, 12L)
+            );
+        assertThat(reopened.lastSequence()).isEqualTo(3L);
+        reopened.close();
+    }
+
+    @Test
+    void 매핑_크기를_넘으면_다음_영역에_이어서_기록한다() {
+        // given
+        int chunkRecords = 4;
+        PointJournal pointJournal = open(JournalFsyncPolicy.NONE, DataSize.ofBytes(PointJournal.RECORD_BYTES * chunkRecords));
+
+        // when
+        for (long i = 1; i <= chunkRecords * 3 + 1; i++) {
+            pointJournal.append(i, i, TransactionType.CHARGE, i, i);
+        }
+        pointJournal.close();
+
+        // then
+        PointJournal reopened = open(JournalFsyncPolicy.NONE, DataSize.ofBytes(PointJournal.RECORD_BYTES * chunkRecords));
+        List<JournalRecord> records = new ArrayList<>();
+        reopened.replay(records::add);
+        assertThat(records).extracting("userId").containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L);
+
+        reopened.append(14L, 14L, TransactionType.CHARGE, 14L, 14L);
+        assertThat(reopened.lastSequence()).isEqualTo(14L);
+        reopened.close();
+    }
+
+    @Test
+    void 지정한_순번_이후의_기록만_재생한다() {
+        // given
+        int chunkRecords = 4;
+        PointJournal pointJournal = open(JournalFsyncPolicy.NONE, DataSize.ofBytes(PointJournal.RECORD_BYTES * chunkRecords));
+        for (long i = 1; i <= 10; i++) {
+            pointJournal.append(i, i, TransactionType.CHARGE, i, i);
+        }
+
+        // when
+        List<JournalRecord> records = new ArrayList<>();
+        long count = pointJournal.replay(6L, records::add);
+
+        // then
+        assertThat(count).isEqualTo(4L);
+        assertThat(records).extracting("sequence").containsExactly(7L, 8L, 9L, 10L);
+        assertThat(pointJournal.replay(10L, record -> { })).isZero();
+        pointJournal.close();
+    }
+
+    @Test
+    void 기록_도중_끊긴_마지막_기록은_버리고_그_위치부터_다시_기록한다() throws IOException {
+        // given
+        Path path = directory.resolve("point-journal.dat");
+        PointJournal pointJournal = open(JournalFsyncPolicy.ALWAYS, DataSize.ofKilobytes(64));
+        pointJournal.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        pointJournal.append(1L, 50L, TransactionType.CHARGE, 150L, 11L);
+        pointJournal.awaitDurable();
+        pointJournal.close();
+
+        // 두 번째 기록의 잔액 일부만 덮어써서 끊긴 기록을 흉내냄
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f, 0x7f}), PointJournal.RECORD_BYTES + 24);
+        }
+
+        // when
+        PointJournal reopened = open(JournalFsyncPolicy.ALWAYS, DataSize.ofKilobytes(64));
+        reopened.append(1L, 70L, TransactionType.CHARGE, 170L, 12L);
+        reopened.awaitDurable();
+        List<JournalRecord> records = new ArrayList<>();
+        reopened.replay(records::add);
+
+        // then
+        assertThat(records)
+            .extracting("sequence", "amount", "balance")
+            .containsExactly(
+                tuple(1L, 100L, 100L),
+                tuple(2L, 70L, 170L)
+            );
+        reopened.close();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_순번이_빠짐없이_이어진다() throws Exception {
+        // given
+        PointJournal pointJournal = open(JournalFsyncPolicy.ALWAYS, DataSize.ofKilobytes(64));
+        int threadCount = 8;
+        int recordsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            futures.add(executorService.submit(() -> {
+                for (int i = 1; i <= recordsPerThread; i++) {
+                    pointJournal.append(userId, 1L, TransactionType.CHARGE, i, i);
+                    pointJournal.awaitDurable();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        List<JournalRecord> records = new ArrayList<>();
+        pointJournal.replay(records::add);
+        assertThat(records).hasSize(threadCount * recordsPerThread);
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).sequence()).isEqualTo(i + 1L);
+        }
+        pointJournal.close();
+    }
+
+    @Test
+    void 저널을_사용하지_않으면_기록하지_않는다() {
+        // given
+        PointJournal pointJournal = new PointJournal(new PointJournalPolicy(false, null, JournalFsyncPolicy.ALWAYS, Duration.ZERO, DataSize.ofMegabytes(64)));
+
+        // when
+        long sequence = pointJournal.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        pointJournal.awaitDurable();
+
+        // then
+        assertThat(sequence).isZero();
+        assertThat(pointJournal.replay(record -> { })).isZero();
+    }
+}
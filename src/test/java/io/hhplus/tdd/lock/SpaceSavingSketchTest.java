@@ -0,0 +1,87 @@
+package io.hhplus.tdd.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    void 추적_가능한_개수보다_많은_키가_들어와도_가중치가_큰_키는_상위에_남는다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(16, TimeUnit.HOURS.toNanos(1));
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            sketch.add(key, 1);
+            if (key % 10 == 0) {
+                sketch.add(-1L, 100);
+                sketch.add(-2L, 50);
+            }
+        }
+        List<SpaceSavingSketch.Estimate> top = sketch.top(2);
+
+        // then
+        assertThat(top).extracting(SpaceSavingSketch.Estimate::key).containsExactly(-1L, -2L);
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(100_000L);
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(100_000L);
+    }
+
+    @Test
+    void 추적하는_키의_개수는_capacity를_넘지_않는다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(8, TimeUnit.HOURS.toNanos(1));
+
+        // when
+        for (long key = 1; key <= 1_000; key++) {
+            sketch.add(key, key);
+        }
+
+        // then
+        assertThat(sketch.top(Integer.MAX_VALUE)).hasSize(8);
+    }
+
+    @Test
+    void 최근_구간이_지나면_가중치가_절반으로_줄어든다() throws InterruptedException {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(8, TimeUnit.MILLISECONDS.toNanos(10));
+        sketch.add(1L, 100);
+
+        // when
+        Thread.sleep(20);
+        List<SpaceSavingSketch.Estimate> top = sketch.top(1);
+
+        // then
+        assertThat(top.get(0).count()).isEqualTo(50L);
+    }
+
+    @Test
+    void 교체가_반복되어도_추정_가중치는_실제_가중치_이상이고_오차를_빼면_실제_가중치_이하이다() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(32, TimeUnit.HOURS.toNanos(1));
+        Map<Long, Long> actual = new HashMap<>();
+        Random random = new Random(7);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(10) == 0 ? random.nextInt(8) : 100 + random.nextInt(5_000);
+            long weight = 1 + random.nextInt(100);
+            sketch.add(key, weight);
+            actual.merge(key, weight, Long::sum);
+        }
+
+        // then
+        assertThat(sketch.top(Integer.MAX_VALUE))
+            .hasSize(32)
+            .allSatisfy(estimate -> {
+                assertThat(estimate.count()).isGreaterThanOrEqualTo(actual.get(estimate.key()));
+                assertThat(estimate.count() - estimate.error()).isLessThanOrEqualTo(actual.get(estimate.key()));
+            });
+    }
+}
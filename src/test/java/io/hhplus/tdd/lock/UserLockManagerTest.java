@@ -0,0 +1,182 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.config.UserLockPolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLockManagerTest {
+
+    @Test
+    void 참조_카운트_락은_모든_스레드가_해제하면_제거된다() {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockPolicy(UserLockTableType.REF_COUNTED, 0, UserLockStrategyType.FAIR), new PointMetrics(new SimpleMeterRegistry()));
+        UserLock userLock = userLockManager.getUserLock(1L);
+
+        // when
+        userLock.lock();
+        int lockedCount = userLockManager.liveLockCount();
+        userLock.unlock();
+
+        // then
+        assertThat(lockedCount).isEqualTo(1);
+        assertThat(userLockManager.liveLockCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserLockStrategyType.class)
+    void 참조_카운트_락은_동일한_유저의_동시_요청을_한_번에_하나씩_처리한다(UserLockStrategyType strategy) throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockPolicy(UserLockTableType.REF_COUNTED, 0, strategy), new PointMetrics(new SimpleMeterRegistry()));
+        int threadCount = 10;
+        int incrementCount = 1_000;
+        long[] counter = new long[1];
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementCount; j++) {
+                        UserLock userLock = userLockManager.getUserLock(1L);
+                        userLock.lock();
+                        try {
+                            counter[0]++;
+                        } finally {
+                            userLock.unlock();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(counter[0]).isEqualTo((long) threadCount * incrementCount);
+        assertThat(userLockManager.liveLockCount()).isZero();
+    }
+
+    @Test
+    void STAMPED_전략은_쓰기_중인_락을_조회하면_쓰기가_끝난_후의_값을_반환한다() throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockPolicy(UserLockTableType.STRIPED, 1, UserLockStrategyType.STAMPED), new PointMetrics(new SimpleMeterRegistry()));
+        UserLock writerLock = userLockManager.getUserLock(1L);
+        long[] point = {100L};
+        long[] readPoint = new long[1];
+
+        // when
+        writerLock.lock();
+        Thread reader = new Thread(() -> readPoint[0] = userLockManager.getUserLock(1L).read(() -> point[0]));
+        reader.start();
+        while (reader.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        point[0] = 200L;
+        writerLock.unlock();
+        reader.join();
+
+        // then
+        assertThat(readPoint[0]).isEqualTo(200L);
+    }
+
+    @Test
+    void 스트라이프_락은_유저_수와_관계없이_락_개수가_고정된다() {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockPolicy(UserLockTableType.STRIPED, 16, UserLockStrategyType.FAIR), new PointMetrics(new SimpleMeterRegistry()));
+
+        // when
+        for (long userId = 1; userId <= 1_000; userId++) {
+            UserLock userLock = userLockManager.getUserLock(userId);
+            userLock.lock();
+            userLock.unlock();
+        }
+
+        // then
+        assertThat(userLockManager.liveLockCount()).isEqualTo(16);
+    }
+
+    @Test
+    void 스트라이프_락에서_다른_유저가_잡고_있는_락을_기다리면_충돌로_집계된다() throws InterruptedException {
+        // given
+        StripedUserLockTable userLockTable = new StripedUserLockTable(2, UserLockStrategyType.FAIR);
+        long collidingUserId = 2L;
+        while (userLockTable.stripeIndex(collidingUserId) != userLockTable.stripeIndex(1L)) {
+            collidingUserId++;
+        }
+        long waitingUserId = collidingUserId;
+        UserLock firstUserLock = userLockTable.getUserLock(1L);
+
+        // when
+        firstUserLock.lock();
+        Thread waiter = new Thread(() -> {
+            UserLock userLock = userLockTable.getUserLock(waitingUserId);
+            userLock.lock();
+            userLock.unlock();
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        firstUserLock.unlock();
+        waiter.join();
+
+        // then
+        assertThat(userLockTable.collisionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 경합한_유저는_최근_대기_시간과_현재_대기_스레드_수로_조회된다() throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockPolicy(UserLockTableType.REF_COUNTED, 0, UserLockStrategyType.FAIR), new PointMetrics(new SimpleMeterRegistry()));
+        long userId = 1L;
+        UserLock holder = userLockManager.getUserLock(userId);
+
+        holder.lock();
+        Thread waiter = new Thread(() -> {
+            UserLock userLock = userLockManager.getUserLock(userId);
+            userLock.lock();
+            userLock.unlock();
+        });
+        waiter.start();
+        Thread.sleep(20);
+        holder.unlock();
+        waiter.join();
+
+        // when
+        holder.lock();
+        int waiterCount = 2;
+        Thread[] waiters = new Thread[waiterCount];
+        for (int i = 0; i < waiterCount; i++) {
+            waiters[i] = new Thread(() -> {
+                UserLock userLock = userLockManager.getUserLock(userId);
+                userLock.lock();
+                userLock.unlock();
+            });
+            waiters[i].start();
+        }
+        while (holder.getQueueLength() < waiterCount) {
+            Thread.onSpinWait();
+        }
+        LockContentionReport report = userLockManager.contention(10);
+        holder.unlock();
+        for (Thread thread : waiters) {
+            thread.join();
+        }
+
+        // then
+        assertThat(report.byWaitTime()).extracting(UserLockContention::userId).containsExactly(userId);
+        assertThat(report.byWaitTime().get(0).recentWaitMillis()).isGreaterThanOrEqualTo(10L);
+        assertThat(report.byQueueLength()).extracting(UserLockContention::queueLength).containsExactly(waiterCount);
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.config.UserLockPolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.lock.UserLockStrategyType;
+import io.hhplus.tdd.lock.UserLockTableType;
+import io.hhplus.tdd.point.PointLimitChecker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    void 유저_락을_획득하고_해제하면_대기_시간과_점유_시간이_한_번씩_기록된다() {
+        // given
+        UserLockManager userLockManager = new UserLockManager(
+            new UserLockPolicy(UserLockTableType.REF_COUNTED, 0, UserLockStrategyType.FAIR), pointMetrics);
+        UserLock userLock = userLockManager.getUserLock(1L);
+
+        // when
+        userLock.lock();
+        userLock.unlock();
+
+        // then
+        assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void 포인트_정책으로_거절되면_정책별로_거절_횟수가_증가한다() {
+        // given
+        PointLimitChecker pointLimitChecker = new PointLimitChecker(new PointLimit(100L, 0L), pointMetrics);
+
+        // when
+        assertThrows(RuntimeException.class, () -> pointLimitChecker.checkMaxPointLimit(101L));
+        assertThrows(RuntimeException.class, () -> pointLimitChecker.checkMinPointLimit(-1L));
+        assertThrows(RuntimeException.class, () -> pointLimitChecker.checkMinPointLimit(-1L));
+
+        // then
+        assertThat(meterRegistry.get("point.limit.rejections").tag("limit", "max").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.limit.rejections").tag("limit", "min").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 유저_포인트_캐시의_적중과_누락_횟수와_크기가_미터로_조회된다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(new UserPointTable(), new UserPointCachePolicy(100), pointMetrics);
+
+        // when
+        userPointCache.selectById(1L);
+        userPointCache.selectById(1L);
+        userPointCache.selectById(1L);
+
+        // then
+        assertThat(meterRegistry.get("point.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("point.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+}
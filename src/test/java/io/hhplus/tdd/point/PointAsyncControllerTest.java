@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.core.StringContains.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PointAsyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private PointService pointService;
+
+    private static Long id = 40_000L;
+
+    private Long getId() {
+        return ++id;
+    }
+
+    @Test
+    void 비동기로_포인트를_충전하면_요청_스레드를_반환한_후_충전_결과를_응답한다() throws Exception {
+        // given
+        Long id = getId();
+        ChargeUserPointRequestDto requestDto = new ChargeUserPointRequestDto(100L);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                patch("/async/point/{id}/charge", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto))
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(100L));
+    }
+
+    @Test
+    void 비동기로_포인트를_사용하면_사용_이후_포인트를_응답한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+        UseUserPointRequestDto requestDto = UseUserPointRequestDto.createdBy(30L);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                patch("/async/point/{id}/use", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto))
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(70L));
+    }
+
+    @Test
+    void 비동기로_포인트와_내역을_조회하면_동기_API와_같은_결과를_응답한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+
+        // when
+        MvcResult pointResult = mockMvc.perform(get("/async/point/{id}", id))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult historyResult = mockMvc.perform(get("/async/point/{id}/histories", id))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(pointResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(100L));
+        mockMvc.perform(asyncDispatch(historyResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void 비동기_처리_중_발생한_예외는_동기_API와_같은_에러로_응답한다() throws Exception {
+        // given
+        Long id = getId();
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/async/point/{id}", id))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.message").value(containsString("유효하지 않은 유저입니다.")));
+    }
+
+    @Test
+    void 양수가_아닌_ID로_비동기_충전을_요청하면_유저ID_검증_에러가_발생한다() throws Exception {
+        // given
+        Long id = 0L;
+        ChargeUserPointRequestDto requestDto = new ChargeUserPointRequestDto(100L);
+
+        // when & then
+        mockMvc.perform(
+                patch("/async/point/{id}/charge", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto))
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("유저 Id는 양수여야 합니다.")));
+    }
+}
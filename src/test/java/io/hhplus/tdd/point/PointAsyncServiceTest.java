@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointAsyncPolicy;
+import io.hhplus.tdd.config.PointIdempotencyPolicy;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PointAsyncServiceTest {
+
+    private final PointService pointService = mock(PointService.class);
+
+    private final PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyPolicy(100, Duration.ofMinutes(1)));
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PointAsyncService pointAsyncService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pointAsyncService.shutdown();
+    }
+
+    @Test
+    void 조회가_제한_시간을_넘기면_TimeoutException으로_완료된다() {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, pointIdempotencyCache, new PointAsyncPolicy(Duration.ofMillis(50)));
+        when(pointService.getUserPoint(anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return new UserPoint(1L, 100L, 1L);
+        });
+
+        // when
+        CompletableFuture<UserPoint> future = pointAsyncService.getUserPoint(1L);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void 충전은_제한_시간을_넘겨도_시간_초과로_완료되지_않고_반영_결과로_완료된다() throws Exception {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, pointIdempotencyCache, new PointAsyncPolicy(Duration.ofMillis(50)));
+        UserPoint userPoint = new UserPoint(2L, 100L, 1L);
+        when(pointService.chargeUserPoint(anyLong(), any())).thenAnswer(invocation -> {
+            release.await();
+            return userPoint;
+        });
+
+        // when
+        CompletableFuture<UserPoint> future = pointAsyncService.chargeUserPoint(2L, null, new ChargeUserPointRequestDto(100L));
+        Thread.sleep(200);
+        boolean doneBeforeRelease = future.isDone();
+        release.countDown();
+
+        // then
+        assertThat(doneBeforeRelease).isFalse();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(userPoint);
+    }
+
+    @Test
+    void 같은_Idempotency_Key로_다시_충전하면_한_번만_충전하고_같은_결과로_완료된다() {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, pointIdempotencyCache, new PointAsyncPolicy(Duration.ofSeconds(5)));
+        UserPoint userPoint = new UserPoint(3L, 100L, 1L);
+        when(pointService.chargeUserPoint(anyLong(), any())).thenReturn(userPoint);
+        ChargeUserPointRequestDto request = new ChargeUserPointRequestDto(100L);
+
+        // when
+        UserPoint first = pointAsyncService.chargeUserPoint(3L, "retry-key", request).join();
+        UserPoint retried = pointAsyncService.chargeUserPoint(3L, "retry-key", request).join();
+
+        // then
+        assertThat(retried).isEqualTo(first);
+        verify(pointService, times(1)).chargeUserPoint(anyLong(), any());
+    }
+
+    @Test
+    void 처리가_제한_시간_안에_끝나면_결과로_완료된다() {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, pointIdempotencyCache, new PointAsyncPolicy(Duration.ofSeconds(5)));
+        UserPoint userPoint = new UserPoint(2L, 100L, 1L);
+        when(pointService.getUserPoint(2L)).thenReturn(userPoint);
+
+        // when
+        CompletableFuture<UserPoint> future = pointAsyncService.getUserPoint(2L);
+
+        // then
+        assertThat(future.join()).isEqualTo(userPoint);
+    }
+}
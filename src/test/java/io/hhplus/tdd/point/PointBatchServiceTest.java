@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointLimit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class PointBatchServiceTest {
+
+    @Autowired
+    private PointBatchService pointBatchService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLimit pointLimit;
+
+    private static Long userId = 10_000L;
+
+    private static Long getUserId() {
+        return ++userId;
+    }
+
+    @Test
+    void 여러_유저의_작업을_요청하면_요청_순서대로_작업별_결과를_반환한다() {
+        // given
+        Long userId1 = getUserId();
+        Long userId2 = getUserId();
+        List<PointOperation> operations = List.of(
+            new PointOperation(userId1, TransactionType.CHARGE, 100L),
+            new PointOperation(userId2, TransactionType.CHARGE, 50L),
+            new PointOperation(userId1, TransactionType.USE, 30L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointBatchService.applyBatch(operations);
+
+        // then
+        assertThat(results)
+            .extracting("userId", "type", "success", "userPoint.point")
+            .containsExactly(
+                tuple(userId1, TransactionType.CHARGE, true, 100L),
+                tuple(userId2, TransactionType.CHARGE, true, 50L),
+                tuple(userId1, TransactionType.USE, true, 70L)
+            );
+        assertThat(pointService.getUserPoint(userId1).point()).isEqualTo(70L);
+        assertThat(pointService.getUserPoint(userId2).point()).isEqualTo(50L);
+    }
+
+    @Test
+    void 중간_잔액이_포인트_정책을_벗어나는_작업만_실패하고_나머지_작업은_반영된다() {
+        // given
+        Long userId = getUserId();
+        List<PointOperation> operations = List.of(
+            new PointOperation(userId, TransactionType.CHARGE, 100L),
+            new PointOperation(userId, TransactionType.USE, 200L),
+            new PointOperation(userId, TransactionType.CHARGE, pointLimit.max()),
+            new PointOperation(userId, TransactionType.USE, 50L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointBatchService.applyBatch(operations);
+
+        // then
+        assertThat(results)
+            .extracting("success", "message")
+            .containsExactly(
+                tuple(true, null),
+                tuple(false, "포인트는 최소 포인트 정책 금액보다 작을 수 없습니다."),
+                tuple(false, "포인트는 최대 포인트 정책 금액보다 클 수 없습니다."),
+                tuple(true, null)
+            );
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(50L);
+    }
+
+    @Test
+    void 성공한_작업마다_포인트_히스토리가_추가된다() {
+        // given
+        Long userId = getUserId();
+        List<PointOperation> operations = List.of(
+            new PointOperation(userId, TransactionType.CHARGE, 100L),
+            new PointOperation(userId, TransactionType.USE, 500L),
+            new PointOperation(userId, TransactionType.USE, 40L)
+        );
+
+        // when
+        pointBatchService.applyBatch(operations);
+
+        // then
+        assertThat(pointService.listPointHistory(userId))
+            .extracting("amount", "type")
+            .containsExactly(
+                tuple(100L, TransactionType.CHARGE),
+                tuple(40L, TransactionType.USE)
+            );
+    }
+}
@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.user.UserRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointCasEngineTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(new PointHistoryTable());
+    private final PointHistoryAppender pointHistoryAppender = new PointHistoryAppender(pointHistoryIndex, new PointHistoryBuffer(2, 100), pointMetrics);
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryAppender.shutdown();
+    }
+
+    private PointCasEngine engine(UserPointTable userPointTable, int maximumUsers) {
+        UserPointCachePolicy userPointCachePolicy = new UserPointCachePolicy(maximumUsers);
+        return new PointCasEngine(
+            new PointExecution(PointExecutionMode.CAS),
+            new UserPointCache(userPointTable, userPointCachePolicy, pointMetrics),
+            new PointLimitChecker(new PointLimit(100_000L, 0L), pointMetrics),
+            pointHistoryAppender,
+            new PointJournal(new PointJournalPolicy(false, null, JournalFsyncPolicy.NONE, Duration.ZERO, DataSize.ofMegabytes(64))),
+            new UserRegistry(pointHistoryIndex),
+            pointMetrics,
+            userPointCachePolicy
+        );
+    }
+
+    @Test
+    void 반영_결과를_기록하지_못하면_요청에_예외가_전달되고_셀은_테이블의_포인트로_되돌아간다() {
+        // given
+        long userId = 1L;
+        PointCasEngine pointCasEngine = engine(new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (amount == 150L) {
+                    throw new RuntimeException("테이블 장애");
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        }, 100);
+        pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 100L));
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 50L)));
+        UserPoint afterFailure = pointCasEngine.get(userId);
+        UserPoint next = pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 30L));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("테이블 장애");
+        assertThat(afterFailure.point()).isEqualTo(100L);
+        assertThat(next.point()).isEqualTo(130L);
+        pointHistoryAppender.flush(userId);
+        assertThat(pointHistoryIndex.selectAllByUserId(userId))
+            .extracting("amount")
+            .containsExactly(100L, 30L);
+    }
+
+    @Test
+    void 최대_유저_수를_넘으면_유휴_유저의_셀을_제거하고_다시_사용하면_테이블의_포인트로_이어간다() {
+        // given
+        PointCasEngine pointCasEngine = engine(new UserPointTable(), 4);
+        for (long userId = 1; userId <= 8; userId++) {
+            pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, userId * 10));
+        }
+
+        // when
+        for (long userId = 1; userId <= 8; userId++) {
+            pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 1L));
+        }
+
+        // then
+        for (long userId = 1; userId <= 8; userId++) {
+            assertThat(pointCasEngine.get(userId).point()).isEqualTo(userId * 10 + 1);
+        }
+    }
+
+    @Test
+    void 응답과_테이블과_히스토리는_테이블이_반영한_같은_변경_시각을_사용한다() {
+        // given
+        long userId = 1L;
+        UserPointTable userPointTable = new UserPointTable();
+        PointCasEngine pointCasEngine = engine(userPointTable, 100);
+
+        // when
+        UserPoint charged = pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 100L));
+
+        // then
+        pointHistoryAppender.flush(userId);
+        assertThat(userPointTable.selectById(userId).updateMillis()).isEqualTo(charged.updateMillis());
+        assertThat(pointCasEngine.get(userId)).isEqualTo(charged);
+        assertThat(pointHistoryIndex.selectAllByUserId(userId))
+            .extracting("updateMillis")
+            .containsExactly(charged.updateMillis());
+    }
+
+    @Test
+    void 조회는_내보내는_중인_버전이_아닌_마지막으로_내보낸_포인트를_반환한다() throws Exception {
+        // given
+        long userId = 1L;
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PointCasEngine pointCasEngine = engine(new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (amount == 150L) {
+                    writing.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    throw new RuntimeException("테이블 장애");
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        }, 100);
+        pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 100L));
+        CompletableFuture<UserPoint> failing = CompletableFuture.supplyAsync(
+            () -> pointCasEngine.apply(new PointOperation(userId, TransactionType.CHARGE, 50L)));
+        writing.await();
+
+        // when
+        UserPoint duringEmission = pointCasEngine.get(userId);
+        release.countDown();
+
+        // then
+        assertThat(duringEmission.point()).isEqualTo(100L);
+        assertThat(failing).failsWithin(Duration.ofSeconds(5));
+        assertThat(pointCasEngine.get(userId).point()).isEqualTo(100L);
+    }
+}
@@ -2,6 +2,8 @@ package io.hhplus.tdd.point;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.dto.point.BatchPointOperationDto;
+import io.hhplus.tdd.dto.point.BatchPointRequestDto;
 import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
 import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
 import org.junit.jupiter.api.Test;
@@ -10,12 +12,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -108,6 +118,30 @@ class PointControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    void 같은_Idempotency_Key로_충전을_재시도하면_한_번만_충전된다() throws Exception {
+        // given
+        Long id = getId();
+        ChargeUserPointRequestDto requestDto = new ChargeUserPointRequestDto(100L);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(
+                    patch("/point/{id}/charge", id)
+                        .header("Idempotency-Key", "charge-" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(100L));
+        }
+
+        // then
+        assertThat(pointService.getUserPoint(id).point()).isEqualTo(100L);
+        assertThat(pointService.listPointHistory(id)).hasSize(1);
+    }
+
     @Test
     void 양수가_아닌_ID로_포인트를_충전하면_유저ID_검증_에러가_발생한다() throws Exception {
         // given
@@ -193,4 +227,154 @@ class PointControllerTest {
             .andExpect(jsonPath("$.message").value(containsString("사용 금액은 양수여야 합니다.")));
     }
 
+    @Test
+    void 여러_유저의_포인트를_일괄_충전_사용하면_작업별_결과를_반환한다() throws Exception {
+        // given
+        Long id1 = getId();
+        Long id2 = getId();
+        BatchPointRequestDto requestDto = new BatchPointRequestDto(List.of(
+            new BatchPointOperationDto(id1, TransactionType.CHARGE, 100L),
+            new BatchPointOperationDto(id2, TransactionType.USE, 100L)
+        ));
+
+        //when & then
+        mockMvc.perform(
+                post("/point/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto))
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].success").value(true))
+            .andExpect(jsonPath("$[1].success").value(false));
+    }
+
+    @Test
+    void 일괄_작업에_양수가_아닌_금액이_있으면_amount_검증_에러가_발생한다() throws Exception {
+        // given
+        BatchPointRequestDto requestDto = new BatchPointRequestDto(List.of(
+            new BatchPointOperationDto(getId(), TransactionType.CHARGE, 0L)
+        ));
+
+        //when & then
+        mockMvc.perform(
+                post("/point/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto))
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("금액은 양수여야 합니다.")));
+    }
+
+    @Test
+    void 커서와_limit으로_포인트_내역을_조회하면_커서_이후의_내역을_limit_개까지_반환한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(200L));
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(300L));
+        long firstHistoryId = pointService.listPointHistory(id).get(0).id();
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/histories", id).param("limit", "2"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].amount").value(100L));
+        mockMvc.perform(get("/point/{id}/histories", id).param("after", String.valueOf(firstHistoryId)).param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].amount").value(200L));
+    }
+
+    @Test
+    void 기간으로_포인트_내역을_조회하면_기간_내의_내역만_반환한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+        long from = pointService.listPointHistory(id).get(0).updateMillis() + 1;
+        Thread.sleep(2);
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(200L));
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/histories", id).param("from", String.valueOf(from)))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].amount").value(200L));
+        mockMvc.perform(get("/point/{id}/histories", id).param("from", "0").param("to", String.valueOf(from)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].amount").value(100L));
+    }
+
+    @Test
+    void after와_기간을_함께_주거나_시작_시각이_끝_시각보다_늦으면_400_에러가_발생한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/histories", id).param("after", "1").param("from", "0"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("after와 from/to는 함께 사용할 수 없습니다."));
+        mockMvc.perform(get("/point/{id}/histories", id).param("from", "20").param("to", "10"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("조회 시작 시각은 끝 시각보다 늦을 수 없습니다."));
+    }
+
+    @Test
+    void 포인트_통계를_조회하면_충전_사용_합계와_횟수를_반환한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(300L));
+        pointService.useUserPoint(id, UseUserPointRequestDto.createdBy(100L));
+        List<PointHistory> pointHistories = pointService.listPointHistory(id);
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/stats", id))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalCharged").value(300L))
+            .andExpect(jsonPath("$.totalUsed").value(100L))
+            .andExpect(jsonPath("$.transactionCount").value(2L))
+            .andExpect(jsonPath("$.firstActivityMillis").value(pointHistories.get(0).updateMillis()))
+            .andExpect(jsonPath("$.lastActivityMillis").value(pointHistories.get(1).updateMillis()));
+    }
+
+    @Test
+    void limit이_최대_개수를_넘으면_limit_검증_에러가_발생한다() throws Exception {
+        // given
+        Long id = getId();
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/histories", id).param("limit", "1001"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("limit은 1000 이하여야 합니다.")));
+    }
+
+    @Test
+    void 포인트_내역을_스트리밍하면_한_줄에_내역_하나씩_NDJSON으로_응답한다() throws Exception {
+        // given
+        Long id = getId();
+        pointService.chargeUserPoint(id, new ChargeUserPointRequestDto(100L));
+        pointService.useUserPoint(id, UseUserPointRequestDto.createdBy(30L));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/point/{id}/histories/stream", id))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], PointHistory.class).type()).isEqualTo(TransactionType.USE);
+    }
 }
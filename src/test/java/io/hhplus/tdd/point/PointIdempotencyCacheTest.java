@@ -0,0 +1,217 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointIdempotencyPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointIdempotencyCacheTest {
+
+    private final PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyPolicy(1_000, Duration.ofMinutes(10)));
+
+    @Test
+    void 같은_키로_다시_요청하면_실행하지_않고_처음_결과를_반환한다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        UserPoint charged = new UserPoint(1L, 100L, 10L);
+
+        // when
+        UserPoint first = pointIdempotencyCache.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            return charged;
+        });
+        UserPoint retried = pointIdempotencyCache.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            return new UserPoint(1L, 200L, 11L);
+        });
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retried).isEqualTo(first);
+    }
+
+    @Test
+    void 처리_중인_요청과_같은_키로_동시에_요청하면_처음_요청의_결과를_기다린다() throws Exception {
+        // given
+        int threadCount = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        Future<UserPoint> owner = executorService.submit(() -> pointIdempotencyCache.execute(2L, "key-2", TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+            return new UserPoint(2L, 100L, 10L);
+        }));
+        started.await();
+
+        List<Future<UserPoint>> duplicates = new ArrayList<>();
+        for (int i = 1; i < threadCount; i++) {
+            duplicates.add(executorService.submit(() -> pointIdempotencyCache.execute(2L, "key-2", TransactionType.CHARGE, 100L, () -> {
+                executions.incrementAndGet();
+                return new UserPoint(2L, 999L, 99L);
+            })));
+        }
+        release.countDown();
+
+        // then
+        UserPoint result = owner.get();
+        for (Future<UserPoint> duplicate : duplicates) {
+            assertThat(duplicate.get()).isEqualTo(result);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    void 실패한_요청은_보관하지_않아_같은_키로_다시_실행할_수_있다() {
+        // given
+        assertThrows(RuntimeException.class, () -> pointIdempotencyCache.execute(3L, "key-3", TransactionType.USE, 100L, () -> {
+            throw new RuntimeException("포인트가 부족합니다.");
+        }));
+
+        // when
+        UserPoint retried = pointIdempotencyCache.execute(3L, "key-3", TransactionType.USE, 100L, () -> new UserPoint(3L, 0L, 10L));
+
+        // then
+        assertThat(retried.point()).isZero();
+    }
+
+    @Test
+    void 같은_키로_종류나_금액이_다른_요청을_보내면_예외가_발생한다() {
+        // given
+        pointIdempotencyCache.execute(4L, "key-4", TransactionType.CHARGE, 100L, () -> new UserPoint(4L, 100L, 10L));
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> pointIdempotencyCache.execute(4L, "key-4", TransactionType.CHARGE, 200L, () -> new UserPoint(4L, 300L, 11L)));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    @Test
+    void 다른_유저는_같은_키를_사용해도_각각_실행된다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        pointIdempotencyCache.execute(5L, "shared", TransactionType.CHARGE, 100L, () -> new UserPoint(5L, executions.incrementAndGet(), 10L));
+        pointIdempotencyCache.execute(6L, "shared", TransactionType.CHARGE, 100L, () -> new UserPoint(6L, executions.incrementAndGet(), 10L));
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 보관_시간이_지난_결과는_제거되어_다시_실행된다() throws InterruptedException {
+        // given
+        PointIdempotencyCache shortLived = new PointIdempotencyCache(new PointIdempotencyPolicy(1_000, Duration.ofMillis(10)));
+        AtomicInteger executions = new AtomicInteger();
+        shortLived.execute(7L, "key-7", TransactionType.CHARGE, 100L, () -> new UserPoint(7L, executions.incrementAndGet(), 10L));
+
+        // when
+        Thread.sleep(20);
+        shortLived.execute(7L, "key-7", TransactionType.CHARGE, 100L, () -> new UserPoint(7L, executions.incrementAndGet(), 10L));
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 처리_중인_요청은_크기를_넘어도_제거되지_않고_새_요청을_거절한다() throws Exception {
+        // given
+        // 세그먼트당 1개
+        PointIdempotencyCache small = new PointIdempotencyCache(new PointIdempotencyPolicy(16, Duration.ofMinutes(10)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<UserPoint> inFlight = executorService.submit(() -> small.execute(8L, "key-8a", TransactionType.CHARGE, 100L, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+            return new UserPoint(8L, 100L, 10L);
+        }));
+        started.await();
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> small.execute(8L, "key-8b", TransactionType.CHARGE, 100L, () -> new UserPoint(8L, 200L, 11L)));
+        release.countDown();
+        inFlight.get();
+        UserPoint afterCompleted = small.execute(8L, "key-8b", TransactionType.CHARGE, 100L, () -> new UserPoint(8L, 200L, 11L));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("처리 중인 멱등성 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(afterCompleted.point()).isEqualTo(200L);
+        assertThat(small.size()).isEqualTo(1L);
+        executorService.shutdown();
+    }
+
+    @Test
+    void 처리_중인_요청보다_뒤에_있는_만료된_결과도_제거된다() throws Exception {
+        // given
+        // 세그먼트당 2개
+        PointIdempotencyCache small = new PointIdempotencyCache(new PointIdempotencyPolicy(32, Duration.ofMillis(200)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<UserPoint> inFlight = executorService.submit(() -> small.execute(9L, "key-9a", TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+            return new UserPoint(9L, 100L, 10L);
+        }));
+        started.await();
+        small.execute(9L, "key-9b", TransactionType.CHARGE, 100L, () -> new UserPoint(9L, 200L, 11L));
+        Thread.sleep(250);
+
+        // when
+        small.execute(9L, "key-9c", TransactionType.CHARGE, 100L, () -> new UserPoint(9L, 300L, 12L));
+        AtomicReference<UserPoint> duplicate = new AtomicReference<>();
+        Thread duplicateThread = new Thread(() -> duplicate.set(small.execute(9L, "key-9a", TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            return new UserPoint(9L, 999L, 99L);
+        })));
+        duplicateThread.start();
+        // 처리 중인 요청이 남아 있으면 중복 요청은 결과를 기다림
+        while (duplicateThread.getState() != Thread.State.WAITING && duplicateThread.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+        long sizeBeforeRelease = small.size();
+        release.countDown();
+        duplicateThread.join();
+
+        // then
+        assertThat(sizeBeforeRelease).isEqualTo(2L);
+        assertThat(duplicate.get()).isEqualTo(inFlight.get());
+        assertThat(executions.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {"point-execution.mode=cas"})
+class PointServiceCasIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLimit pointLimit;
+
+    private static Long userId = 60_000L;
+
+    private static Long getUserId() {
+        return ++userId;
+    }
+
+    @Test
+    void CAS_모드에서_잔액이_포인트_최소_정책보다_작아지면_락_모드와_같은_에러가_발생한다() {
+        // given
+        Long userId = getUserId();
+        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(100L));
+
+        // when
+        RuntimeException runtimeException = assertThrows(RuntimeException.class,
+            () -> pointService.useUserPoint(userId, UseUserPointRequestDto.createdBy(101L)));
+
+        // then
+        assertThat(runtimeException.getMessage())
+            .isEqualTo("포인트는 최소 포인트 정책 금액보다 작을 수 없습니다.");
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(100L);
+    }
+
+    @Test
+    void CAS_모드에서_최대_포인트를_넘는_충전은_실패하고_잔액은_최대_포인트를_넘지_않는다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        int threadCount = 10;
+        int expectFailCount = 3;
+        Long amount = pointLimit.max() / (threadCount - expectFailCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(amount));
+                    successCount.getAndIncrement();
+                } catch (Exception ex) {
+                    failCount.getAndIncrement();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(threadCount - expectFailCount);
+        assertThat(failCount.get()).isEqualTo(expectFailCount);
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(amount * successCount.get());
+    }
+
+    @Test
+    void CAS_모드에서_동시에_충전_사용해도_히스토리_순서대로_다시_계산하면_최종_잔액과_같고_정책을_벗어나지_않는다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(100L));
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            boolean charge = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    if (charge) {
+                        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(70L));
+                    } else {
+                        pointService.useUserPoint(userId, UseUserPointRequestDto.createdBy(90L));
+                    }
+                } catch (RuntimeException ignored) {
+                    // 잔액 부족으로 실패한 사용은 히스토리에 남지 않음
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        List<PointHistory> pointHistories = pointService.listPointHistory(userId);
+        long point = 0L;
+        for (PointHistory pointHistory : pointHistories) {
+            point += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+            assertThat(point).isBetween(pointLimit.min(), pointLimit.max());
+        }
+        assertThat(point).isEqualTo(pointService.getUserPoint(userId).point());
+    }
+}
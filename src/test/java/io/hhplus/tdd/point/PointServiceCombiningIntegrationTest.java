@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "point-execution.mode=combining")
+class PointServiceCombiningIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLimit pointLimit;
+
+    private static Long userId = 20_000L;
+
+    private static Long getUserId() {
+        return ++userId;
+    }
+
+    @Test
+    void 결합_모드에서_포인트를_충전하면_사용자의_포인트_현황을_반환한다() {
+        // given
+        Long userId = getUserId();
+        ChargeUserPointRequestDto chargeUserPointRequestDto = new ChargeUserPointRequestDto(100L);
+
+        // when
+        UserPoint userPoint = pointService.chargeUserPoint(userId, chargeUserPointRequestDto);
+
+        // then
+        assertThat(userPoint)
+            .extracting("id", "point")
+            .contains(userId, chargeUserPointRequestDto.getAmount());
+    }
+
+    @Test
+    void 결합_모드에서_잔액이_포인트_최소_정책보다_작아지면_단건_처리와_같은_에러가_발생한다() {
+        // given
+        Long userId = getUserId();
+        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(100L));
+
+        // when
+        RuntimeException runtimeException = assertThrows(RuntimeException.class,
+            () -> pointService.useUserPoint(userId, UseUserPointRequestDto.createdBy(101L)));
+
+        // then
+        assertThat(runtimeException.getMessage())
+            .isEqualTo("포인트는 최소 포인트 정책 금액보다 작을 수 없습니다.");
+    }
+
+    @Test
+    void 결합_모드에서_동일한_유저가_N번_포인트를_충전하면_N번의_포인트와_N개의_히스토리가_반영된다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        Long amount = 100L;
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(amount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(amount * threadCount);
+        assertThat(pointService.listPointHistory(userId)).hasSize(threadCount);
+    }
+
+    @Test
+    void 결합_모드에서_최대_포인트를_넘는_충전은_도착_순서대로_실패한다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        int threadCount = 10;
+        int expectFailCount = 3;
+        Long amount = pointLimit.max() / (threadCount - expectFailCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(amount));
+                    successCount.getAndIncrement();
+                } catch (Exception ex) {
+                    failCount.getAndIncrement();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(threadCount - expectFailCount);
+        assertThat(failCount.get()).isEqualTo(expectFailCount);
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(amount * successCount.get());
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.config.PointLimit;
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import io.hhplus.tdd.shard.PointShardEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {"point-execution.mode=sharded", "point-shard.shards=4"})
+class PointServiceShardedIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLimit pointLimit;
+
+    @Autowired
+    private PointShardEngine pointShardEngine;
+
+    private static Long userId = 50_000L;
+
+    private static Long getUserId() {
+        return ++userId;
+    }
+
+    @Test
+    void 샤드_모드에서_잔액이_포인트_최소_정책보다_작아지면_락_모드와_같은_에러가_발생한다() {
+        // given
+        Long userId = getUserId();
+        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(100L));
+
+        // when
+        RuntimeException runtimeException = assertThrows(RuntimeException.class,
+            () -> pointService.useUserPoint(userId, UseUserPointRequestDto.createdBy(101L)));
+
+        // then
+        assertThat(runtimeException.getMessage())
+            .isEqualTo("포인트는 최소 포인트 정책 금액보다 작을 수 없습니다.");
+    }
+
+    @Test
+    void 샤드_모드에서_동일한_유저가_N번_포인트를_충전하면_N번의_포인트와_N개의_히스토리가_반영된다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        Long amount = 100L;
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(amount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(amount * threadCount);
+        assertThat(pointService.listPointHistory(userId)).hasSize(threadCount);
+    }
+
+    @Test
+    void 샤드_모드에서_최대_포인트를_넘는_충전은_실패하고_잔액은_최대_포인트를_넘지_않는다() throws InterruptedException {
+        // given
+        Long userId = getUserId();
+        int threadCount = 10;
+        int expectFailCount = 3;
+        Long amount = pointLimit.max() / (threadCount - expectFailCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(amount));
+                    successCount.getAndIncrement();
+                } catch (Exception ex) {
+                    failCount.getAndIncrement();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(threadCount - expectFailCount);
+        assertThat(failCount.get()).isEqualTo(expectFailCount);
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(amount * successCount.get());
+    }
+
+    @Test
+    void 샤드_모드에서_샤드가_다른_작업을_처리하는_중에도_포인트_조회는_대기하지_않는다() throws Exception {
+        // given
+        Long userId = getUserId();
+        pointService.chargeUserPoint(userId, new ChargeUserPointRequestDto(100L));
+        CountDownLatch release = new CountDownLatch(1);
+        pointShardEngine.submit(userId, () -> {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+
+        // when
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = pointService.getUserPoint(userId);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        release.countDown();
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(100L);
+        assertThat(elapsedMillis).isLessThan(5_000L);
+    }
+}
@@ -1,10 +1,15 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
 import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.lock.ReentrantUserLock;
 import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.shard.PointShardEngine;
+import io.hhplus.tdd.user.UserRegistry;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +18,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,10 +31,10 @@ class PointServiceTest {
     private PointService pointService;
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointCache userPointCache;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryIndex pointHistoryIndex;
 
     @Mock
     private PointLimitChecker pointLimitChecker;
@@ -40,6 +42,24 @@ class PointServiceTest {
     @Mock
     private UserLockManager userLockManager;
 
+    @Mock
+    private PointHistoryAppender pointHistoryAppender;
+
+    @Mock
+    private UserRegistry userRegistry;
+
+    @Mock
+    private PointCombiner pointCombiner;
+
+    @Mock
+    private PointShardEngine pointShardEngine;
+
+    @Mock
+    private PointJournal pointJournal;
+
+    @Mock
+    private PointCasEngine pointCasEngine;
+
     @Test
     void 포인트충전_테스트() {
         // given
@@ -47,17 +67,14 @@ class PointServiceTest {
         ChargeUserPointRequestDto request = new ChargeUserPointRequestDto(100L);
         UserPoint existUserPoint = UserPoint.empty(userId);
 
-        Mockito.when(userPointTable.insertOrUpdate(userId, request.getAmount()))
+        Mockito.when(userPointCache.insertOrUpdate(userId, request.getAmount()))
             .thenReturn(new UserPoint(userId, existUserPoint.point() + request.getAmount(), System.currentTimeMillis()));
 
-        Mockito.when(userPointTable.selectById(userId))
+        Mockito.when(userPointCache.selectById(userId))
             .thenReturn(existUserPoint);
 
-        Mockito.when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
-            .thenReturn(new PointHistory(1, userId, request.getAmount(), TransactionType.CHARGE, System.currentTimeMillis()));
-
         Mockito.when(userLockManager.getUserLock(userId))
-            .thenReturn(new ReentrantLock());
+            .thenReturn(new ReentrantUserLock(true));
 
         // when
         UserPoint result = pointService.chargeUserPoint(userId, request);
@@ -66,6 +83,10 @@ class PointServiceTest {
         assertThat(result)
             .extracting("id", "point")
             .contains(userId, request.getAmount());
+
+        Mockito.verify(pointHistoryAppender)
+            .append(userId, request.getAmount(), TransactionType.CHARGE, result.updateMillis());
+        Mockito.verify(userRegistry).register(userId);
     }
 
     @Test
@@ -74,12 +95,15 @@ class PointServiceTest {
         Long userId = 1L;
         UserPoint existUserPoint = new UserPoint(userId, 10L, System.currentTimeMillis());
 
-        Mockito.when(pointHistoryTable.selectAllByUserId(userId))
-            .thenReturn(List.of(new PointHistory(1, userId, existUserPoint.point(), TransactionType.CHARGE, existUserPoint.updateMillis())));
+        Mockito.when(userRegistry.contains(userId))
+            .thenReturn(true);
 
-        Mockito.when(userPointTable.selectById(userId))
+        Mockito.when(userPointCache.selectById(userId))
             .thenReturn(existUserPoint);
 
+        Mockito.when(userLockManager.getUserLock(userId))
+            .thenReturn(new ReentrantUserLock(true));
+
         //when
         UserPoint result = pointService.getUserPoint(userId);
 
@@ -90,12 +114,12 @@ class PointServiceTest {
     }
 
     @Test
-    void 포인트_히스토리_내역이_없는_유저를_조회하면_실패한다() {
+    void 등록되지_않은_유저를_조회하면_실패한다() {
         //given
         Long userId = 1L;
 
-        Mockito.when(pointHistoryTable.selectAllByUserId(userId))
-            .thenReturn(new ArrayList<>());
+        Mockito.when(userRegistry.contains(userId))
+            .thenReturn(false);
 
         //when
         RuntimeException runtimeException = assertThrows(RuntimeException.class, () -> pointService.getUserPoint(userId));
@@ -113,14 +137,14 @@ class PointServiceTest {
 
         UserPoint existUserPoint = new UserPoint(userId, 100L, System.currentTimeMillis());
 
-        Mockito.when(userPointTable.selectById(userId))
+        Mockito.when(userPointCache.selectById(userId))
             .thenReturn(existUserPoint);
 
-        Mockito.when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+        Mockito.when(userPointCache.insertOrUpdate(anyLong(), anyLong()))
             .thenReturn(new UserPoint(userId, existUserPoint.point() - request.getAmount(), System.currentTimeMillis()));
 
         Mockito.when(userLockManager.getUserLock(userId))
-            .thenReturn(new ReentrantLock());
+            .thenReturn(new ReentrantUserLock(true));
 
         //when
         UserPoint updatedUserPoint = pointService.useUserPoint(userId, request);
@@ -138,7 +162,10 @@ class PointServiceTest {
         Long userId = 1L;
         PointHistory pointHistory = new PointHistory(1L, userId, 100, TransactionType.CHARGE, System.currentTimeMillis());
 
-        Mockito.when(pointHistoryTable.selectAllByUserId(userId))
+        Mockito.when(userRegistry.contains(userId))
+            .thenReturn(true);
+
+        Mockito.when(pointHistoryIndex.selectAllByUserId(userId))
             .thenReturn(List.of(pointHistory));
 
         // when
@@ -151,11 +178,11 @@ class PointServiceTest {
     }
 
     @Test
-    void 포인트_히스토리가_없는_유저를_조회하면_에러가_발생한다() {
+    void 등록되지_않은_유저의_히스토리를_조회하면_에러가_발생한다() {
         // given
         Long userId = 1L;
-        Mockito.when(pointHistoryTable.selectAllByUserId(userId))
-            .thenReturn(new ArrayList<>());
+        Mockito.when(userRegistry.contains(userId))
+            .thenReturn(false);
 
         // when
         RuntimeException runtimeException = assertThrows(RuntimeException.class, () -> pointService.listPointHistory(userId));
@@ -164,4 +191,49 @@ class PointServiceTest {
         assertThat(runtimeException.getMessage())
             .isEqualTo("유효하지 않은 유저입니다");
     }
+
+    @Test
+    void 조회_시작_시각이_끝_시각보다_늦으면_에러가_발생한다() {
+        // given
+        Long userId = 1L;
+
+        // when
+        RuntimeException runtimeException = assertThrows(RuntimeException.class, () -> pointService.listPointHistoryBetween(userId, 20L, 10L, 10));
+
+        // then
+        assertThat(runtimeException.getMessage())
+            .isEqualTo("조회 시작 시각은 끝 시각보다 늦을 수 없습니다.");
+    }
+
+    @Test
+    void 한_유저의_작업을_일괄_처리하면_포인트를_한_번만_조회하고_한_번만_업데이트한다() {
+        // given
+        Long userId = 1L;
+        UserPoint existUserPoint = new UserPoint(userId, 100L, System.currentTimeMillis());
+        List<PointOperation> operations = List.of(
+            new PointOperation(userId, TransactionType.CHARGE, 50L),
+            new PointOperation(userId, TransactionType.USE, 30L)
+        );
+
+        Mockito.when(userPointCache.selectById(userId))
+            .thenReturn(existUserPoint);
+
+        Mockito.when(userPointCache.insertOrUpdate(userId, 120L))
+            .thenReturn(new UserPoint(userId, 120L, System.currentTimeMillis()));
+
+        Mockito.when(userLockManager.getUserLock(userId))
+            .thenReturn(new ReentrantUserLock(true));
+
+        // when
+        List<PointOperationResult> results = pointService.applyUserOperations(userId, operations);
+
+        // then
+        assertThat(results)
+            .extracting("success", "userPoint.point")
+            .containsExactly(new Tuple(true, 150L), new Tuple(true, 120L));
+
+        Mockito.verify(userPointCache, Mockito.times(1)).selectById(userId);
+        Mockito.verify(userPointCache, Mockito.times(1)).insertOrUpdate(anyLong(), anyLong());
+        Mockito.verify(pointHistoryAppender, Mockito.times(2)).append(anyLong(), anyLong(), Mockito.any(), anyLong());
+    }
 }
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청당 플랫폼 스레드(Tomcat 기본 최대 200개) 방식과 요청당 가상 스레드 방식에서<br>
+ * 동시 요청 수를 늘려가며 p99 지연 시간을 비교하고, 목표 p99 안에서 처리 가능한 최대 동시 요청 수를 출력합니다.<br>
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다. (목표 p99 : -Dbenchmark.p99TargetMillis)
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ThreadModelBenchmarkTest {
+
+    private static final int PLATFORM_THREAD_COUNT = 200;
+    private static final int[] CONCURRENCY_LEVELS = {100, 200, 400, 800, 1600};
+
+    @Autowired
+    private PointService pointService;
+
+    private static long userId = 1_000_000L;
+
+    @Test
+    void 요청당_플랫폼_스레드와_가상_스레드의_목표_p99_내_최대_동시_요청_수를_비교한다() throws InterruptedException {
+        long p99TargetMillis = Long.getLong("benchmark.p99TargetMillis", 1_000L);
+
+        int platformMaxConcurrency = maxConcurrencyWithin(p99TargetMillis, "platform",
+            () -> Executors.newFixedThreadPool(PLATFORM_THREAD_COUNT));
+        int virtualMaxConcurrency = maxConcurrencyWithin(p99TargetMillis, "virtual",
+            Executors::newVirtualThreadPerTaskExecutor);
+
+        System.out.printf("p99 <= %dms : platform=%d, virtual=%d concurrent requests%n",
+            p99TargetMillis, platformMaxConcurrency, virtualMaxConcurrency);
+    }
+
+    private int maxConcurrencyWithin(long p99TargetMillis, String name, Supplier<ExecutorService> executorFactory) throws InterruptedException {
+        int maxConcurrency = 0;
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            long p99Millis = p99Millis(concurrency, executorFactory);
+            System.out.printf("%s concurrency=%d p99=%dms%n", name, concurrency, p99Millis);
+            if (p99Millis <= p99TargetMillis) {
+                maxConcurrency = concurrency;
+            }
+        }
+        return maxConcurrency;
+    }
+
+    private long p99Millis(int concurrency, Supplier<ExecutorService> executorFactory) throws InterruptedException {
+        long[] latencies = new long[concurrency];
+        CountDownLatch latch = new CountDownLatch(concurrency);
+
+        try (ExecutorService executorService = executorFactory.get()) {
+            for (int i = 0; i < concurrency; i++) {
+                int index = i;
+                long requestUserId = ++userId;
+                long submittedAt = System.nanoTime();
+                executorService.submit(() -> {
+                    try {
+                        pointService.chargeUserPoint(requestUserId, new ChargeUserPointRequestDto(100L));
+                    } finally {
+                        latencies[index] = System.nanoTime() - submittedAt;
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        Arrays.sort(latencies);
+        return TimeUnit.NANOSECONDS.toMillis(latencies[(int) Math.ceil(concurrency * 0.99) - 1]);
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.dto.point.ChargeUserPointRequestDto;
+import io.hhplus.tdd.dto.point.UseUserPointRequestDto;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드에서 포인트 충전/사용/조회 시 캐리어 스레드 고정(pinning)이 발생하지 않는지 JFR 이벤트로 검증합니다.<br>
+ * JDK 21의 jdk.VirtualThreadPinned는 모니터 진입 대기로 인한 고정을 기록하지 않으므로, 가상 스레드의 jdk.JavaMonitorEnter도 함께 확인합니다.
+ */
+@SpringBootTest
+class VirtualThreadPinningTest {
+
+    @Autowired
+    private PointService pointService;
+
+    private static Long userId = 30_000L;
+
+    @Test
+    void 가상_스레드에서_동일한_유저에게_동시에_요청해도_캐리어_스레드가_고정되지_않는다() throws Exception {
+        // given
+        long targetUserId = ++userId;
+        int requestCount = 20;
+        AtomicInteger pinnedCount = new AtomicInteger();
+        AtomicInteger monitorEnterCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (RecordingStream recordingStream = new RecordingStream()) {
+            recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recordingStream.onEvent("jdk.VirtualThreadPinned", event -> pinnedCount.incrementAndGet());
+            recordingStream.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ZERO).withStackTrace();
+            recordingStream.onEvent("jdk.JavaMonitorEnter", event -> {
+                if (event.getThread() != null && event.getThread().isVirtual()) {
+                    monitorEnterCount.incrementAndGet();
+                }
+            });
+            recordingStream.startAsync();
+
+            // when
+            try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < requestCount; i++) {
+                    futures.add(executorService.submit(() -> {
+                        pointService.chargeUserPoint(targetUserId, new ChargeUserPointRequestDto(100L));
+                        pointService.useUserPoint(targetUserId, UseUserPointRequestDto.createdBy(50L));
+                        pointService.getUserPoint(targetUserId);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            pointService.listPointHistory(targetUserId);
+            recordingStream.stop();
+        }
+
+        // then
+        assertThat(pinnedCount.get()).isZero();
+        assertThat(monitorEnterCount.get()).isZero();
+        assertThat(pointService.getUserPoint(targetUserId).point()).isEqualTo(50L * requestCount);
+    }
+}
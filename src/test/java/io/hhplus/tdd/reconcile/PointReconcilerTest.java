@@ -0,0 +1,216 @@
+package io.hhplus.tdd.reconcile;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointHistoryBuffer;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointReconcilePolicy;
+import io.hhplus.tdd.config.UserPointCachePolicy;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryAppender;
+import io.hhplus.tdd.journal.JournalRecord;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.user.UserRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+class PointReconcilerTest {
+
+    @TempDir
+    private Path directory;
+
+    private UserPointCache userPointCache;
+    private PointHistoryIndex pointHistoryIndex;
+    private PointHistoryAppender pointHistoryAppender;
+    private UserRegistry userRegistry;
+    private PointJournal pointJournal;
+    private PointService pointService;
+    private PointReconciler pointReconciler;
+
+    @BeforeEach
+    void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        userPointCache = new UserPointCache(new UserPointTable(), new UserPointCachePolicy(100), pointMetrics);
+        pointHistoryIndex = new PointHistoryIndex(new PointHistoryTable());
+        pointHistoryAppender = new PointHistoryAppender(pointHistoryIndex, new PointHistoryBuffer(4, 100), pointMetrics);
+        userRegistry = new UserRegistry(pointHistoryIndex);
+
+        pointService = Mockito.mock(PointService.class);
+        Mockito.when(pointService.executeExclusively(anyLong(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        pointJournal = new PointJournal(new PointJournalPolicy(true, directory.resolve("point-journal.dat"), JournalFsyncPolicy.NONE, Duration.ofMillis(10), DataSize.ofKilobytes(64)));
+        pointReconciler = reconciler();
+    }
+
+    private PointReconciler reconciler() {
+        return new PointReconciler(new PointReconcilePolicy(2, 1, directory.resolve("reconcile-checkpoint.dat")),
+            pointService, userPointCache, pointHistoryIndex, pointHistoryAppender, userRegistry, pointJournal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryAppender.shutdown();
+        pointReconciler.shutdown();
+        pointJournal.close();
+    }
+
+    private ReconcileStatus awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pointReconciler.status().state() == ReconcileState.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return pointReconciler.status();
+    }
+
+    private void record(long userId, long point, long amount, TransactionType type) {
+        userPointCache.insertOrUpdate(userId, point);
+        pointHistoryAppender.append(userId, amount, type, System.currentTimeMillis());
+        userRegistry.register(userId);
+    }
+
+    @Test
+    void 포인트와_히스토리가_일치하면_불일치가_없고_다음_검사는_새_히스토리만_읽는다() {
+        // given
+        record(1L, 100L, 100L, TransactionType.CHARGE);
+        record(1L, 70L, 30L, TransactionType.USE);
+        record(2L, 500L, 500L, TransactionType.CHARGE);
+
+        // when
+        ReconcileReport first = pointReconciler.reconcile(false);
+        record(2L, 600L, 100L, TransactionType.CHARGE);
+        ReconcileReport second = pointReconciler.reconcile(false);
+
+        // then
+        assertThat(first.checkedUsers()).isEqualTo(2);
+        assertThat(first.scannedHistories()).isEqualTo(3L);
+        assertThat(first.mismatchCount()).isZero();
+        assertThat(second.scannedHistories()).isEqualTo(1L);
+        assertThat(second.mismatchCount()).isZero();
+    }
+
+    @Test
+    void 히스토리가_누락된_유저는_불일치로_보고하고_repair면_히스토리_기준으로_복구한다() {
+        // given
+        record(3L, 100L, 100L, TransactionType.CHARGE);
+        // 히스토리 기록에 실패한 사용 요청
+        userPointCache.insertOrUpdate(3L, 40L);
+
+        // when
+        ReconcileReport reported = pointReconciler.reconcile(false);
+        ReconcileReport repaired = pointReconciler.reconcile(true);
+        ReconcileReport after = pointReconciler.reconcile(false);
+
+        // then
+        assertThat(reported.mismatches())
+            .extracting("userId", "storedPoint", "historyPoint", "repaired")
+            .containsExactly(tuple(3L, 40L, 100L, false));
+        assertThat(repaired.mismatches())
+            .extracting("userId", "repaired")
+            .containsExactly(tuple(3L, true));
+        assertThat(userPointCache.selectById(3L).point()).isEqualTo(100L);
+        assertThat(after.mismatchCount()).isZero();
+
+        // 재시작 후에도 복구한 포인트가 유지되도록 잔액 보정 기록이 저널에 남음
+        List<JournalRecord> records = new ArrayList<>();
+        pointJournal.replay(records::add);
+        assertThat(records)
+            .extracting("userId", "balance")
+            .containsExactly(tuple(3L, 100L));
+        assertThat(records.get(0).isBalanceCorrection()).isTrue();
+    }
+
+    @Test
+    void 체크포인트는_파일에_저장되어_재시작_후에도_새_히스토리만_읽는다() {
+        // given
+        record(1L, 100L, 100L, TransactionType.CHARGE);
+        record(1L, 70L, 30L, TransactionType.USE);
+        pointReconciler.reconcile(false);
+        pointReconciler.shutdown();
+        record(1L, 170L, 100L, TransactionType.CHARGE);
+
+        // when
+        pointReconciler = reconciler();
+        ReconcileReport report = pointReconciler.reconcile(false);
+
+        // then
+        assertThat(report.scannedHistories()).isEqualTo(1L);
+        assertThat(report.mismatchCount()).isZero();
+    }
+
+    @Test
+    void 저장된_체크포인트가_히스토리와_맞지_않으면_처음부터_다시_읽는다() {
+        // given
+        record(1L, 100L, 100L, TransactionType.CHARGE);
+        pointReconciler.reconcile(false);
+        pointReconciler.shutdown();
+        // 재시작 후 다른 히스토리로 복구된 경우
+        pointHistoryIndex = new PointHistoryIndex(new PointHistoryTable());
+        pointHistoryAppender.shutdown();
+        pointHistoryAppender = new PointHistoryAppender(pointHistoryIndex, new PointHistoryBuffer(4, 100), new PointMetrics(new SimpleMeterRegistry()));
+        pointHistoryIndex.insert(1L, 100L, TransactionType.CHARGE, 1L);
+
+        // when
+        pointReconciler = reconciler();
+        ReconcileReport report = pointReconciler.reconcile(false);
+
+        // then
+        assertThat(report.scannedHistories()).isEqualTo(1L);
+        assertThat(report.mismatchCount()).isZero();
+    }
+
+    @Test
+    void 검사는_캐시를_거치지_않고_포인트를_읽어_캐시에_유저를_추가하지_않는다() {
+        // given
+        record(1L, 100L, 100L, TransactionType.CHARGE);
+        record(2L, 200L, 200L, TransactionType.CHARGE);
+        userPointCache.invalidateAll();
+
+        // when
+        ReconcileReport report = pointReconciler.reconcile(false);
+
+        // then
+        assertThat(report.mismatchCount()).isZero();
+        assertThat(userPointCache.size()).isZero();
+    }
+
+    @Test
+    void start는_검사를_기다리지_않고_반환하고_완료되면_상태에_결과가_남는다() throws InterruptedException {
+        // given
+        record(1L, 100L, 100L, TransactionType.CHARGE);
+        userPointCache.insertOrUpdate(1L, 40L);
+
+        // when
+        ReconcileStatus started = pointReconciler.start(false);
+        ReconcileStatus finished = awaitFinished();
+
+        // then
+        assertThat(started.state()).isEqualTo(ReconcileState.RUNNING);
+        assertThat(finished.state()).isEqualTo(ReconcileState.COMPLETED);
+        assertThat(finished.report().mismatches())
+            .extracting("userId", "storedPoint", "historyPoint")
+            .containsExactly(tuple(1L, 40L, 100L));
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.config.PointExecution;
+import io.hhplus.tdd.config.PointExecutionMode;
+import io.hhplus.tdd.config.PointShardPolicy;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointShardEngineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PointShardEngine pointShardEngine = new PointShardEngine(
+        new PointExecution(PointExecutionMode.SHARDED), new PointShardPolicy(4), new PointMetrics(meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        pointShardEngine.shutdown();
+    }
+
+    @Test
+    void 같은_유저의_작업은_같은_샤드_스레드에서_제출한_순서대로_실행된다() {
+        // given
+        long userId = 1L;
+        List<Integer> executed = new ArrayList<>();
+        List<String> threadNames = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int order = i;
+            futures.add(pointShardEngine.submit(userId, () -> {
+                executed.add(order);
+                threadNames.add(Thread.currentThread().getName());
+                return order;
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        assertThat(executed).isSorted().hasSize(100);
+        assertThat(threadNames).containsOnly("point-shard-" + pointShardEngine.shardIndex(userId));
+    }
+
+    @Test
+    void 작업에서_발생한_예외는_감싸지_않고_그대로_전달된다() {
+        // given
+        long userId = 2L;
+
+        // when
+        RuntimeException runtimeException = assertThrows(RuntimeException.class,
+            () -> pointShardEngine.execute(userId, () -> {
+                throw new RuntimeException("유효하지 않은 유저입니다.");
+            }));
+
+        // then
+        assertThat(runtimeException.getMessage()).isEqualTo("유효하지 않은 유저입니다.");
+    }
+
+    @Test
+    void 샤드에서_실행_중인_작업이_있으면_대기_중인_작업_수를_샤드별로_반환하고_게이지로_기록한다() throws InterruptedException {
+        // given
+        long userId = 3L;
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pointShardEngine.submit(userId, () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        running.await();
+
+        // when
+        pointShardEngine.submit(userId, () -> null);
+        pointShardEngine.submit(userId, () -> null);
+        int[] queueDepths = pointShardEngine.queueDepths();
+        double gaugeDepth = meterRegistry.get("point.shard.queue.depth")
+            .tag("shard", String.valueOf(pointShardEngine.shardIndex(userId)))
+            .gauge().value();
+        release.countDown();
+
+        // then
+        assertThat(queueDepths).hasSize(4);
+        assertThat(queueDepths[pointShardEngine.shardIndex(userId)]).isEqualTo(2);
+        assertThat(gaugeDepth).isEqualTo(2.0);
+        assertThat(meterRegistry.get("point.shard.queue.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    void SHARDED_모드가_아니면_샤드_스레드를_만들지_않는다() {
+        // given
+        PointShardEngine lockModeEngine = new PointShardEngine(
+            new PointExecution(PointExecutionMode.LOCK), new PointShardPolicy(4), new PointMetrics(new SimpleMeterRegistry()));
+
+        // when & then
+        assertThat(lockModeEngine.isEnabled()).isFalse();
+        assertThat(lockModeEngine.shardCount()).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointSnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 기록한_스냅샷을_읽으면_유저_포인트와_저널_순번이_그대로_복원된다() throws IOException {
+        // given
+        Path path = directory.resolve("point-snapshot.dat");
+        long[] entries = {
+            1L, 100L, 10L,
+            2L, 300L, 11L,
+            3L, 0L, 12L
+        };
+
+        // when
+        long bytes = PointSnapshotFile.write(path, 42L, entries);
+        List<long[]> balances = new ArrayList<>();
+        long journalSequence = PointSnapshotFile.read(path, (userId, point, updateMillis) -> balances.add(new long[]{userId, point, updateMillis}));
+
+        // then
+        assertThat(bytes).isEqualTo(Files.size(path));
+        assertThat(journalSequence).isEqualTo(42L);
+        assertThat(balances).containsExactly(
+            new long[]{1L, 100L, 10L},
+            new long[]{2L, 300L, 11L},
+            new long[]{3L, 0L, 12L}
+        );
+        assertThat(Files.exists(directory.resolve("point-snapshot.dat.tmp"))).isFalse();
+    }
+
+    @Test
+    void 여러_번에_나누어_매핑해도_모든_유저_포인트를_순서대로_읽는다() throws IOException {
+        // given
+        Path path = directory.resolve("point-snapshot.dat");
+        long[] entries = new long[5 * 3];
+        for (int i = 0; i < 5; i++) {
+            entries[i * 3] = i + 1L;
+            entries[i * 3 + 1] = (i + 1) * 100L;
+            entries[i * 3 + 2] = i + 10L;
+        }
+        PointSnapshotFile.write(path, 7L, entries);
+
+        // when
+        List<Long> userIds = new ArrayList<>();
+        long journalSequence = PointSnapshotFile.read(path, (userId, point, updateMillis) -> userIds.add(userId), PointSnapshotFile.ENTRY_BYTES * 2L);
+
+        // then
+        assertThat(journalSequence).isEqualTo(7L);
+        assertThat(userIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void 스냅샷이_없으면_저널_순번_0을_반환한다() throws IOException {
+        // given
+        Path path = directory.resolve("point-snapshot.dat");
+
+        // when
+        long journalSequence = PointSnapshotFile.read(path, (userId, point, updateMillis) -> { });
+
+        // then
+        assertThat(journalSequence).isZero();
+    }
+
+    @Test
+    void 손상된_스냅샷은_유저_포인트를_하나도_전달하지_않고_예외를_던진다() throws IOException {
+        // given
+        Path path = directory.resolve("point-snapshot.dat");
+        PointSnapshotFile.write(path, 7L, new long[]{1L, 100L, 10L, 2L, 200L, 11L});
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), PointSnapshotFile.HEADER_BYTES + PointSnapshotFile.ENTRY_BYTES + 8);
+        }
+        List<Long> userIds = new ArrayList<>();
+
+        // when & then
+        assertThrows(IOException.class, () -> PointSnapshotFile.read(path, (userId, point, updateMillis) -> userIds.add(userId)));
+        assertThat(userIds).isEmpty();
+    }
+}
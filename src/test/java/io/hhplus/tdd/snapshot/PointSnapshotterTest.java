@@ -0,0 +1,94 @@
+package io.hhplus.tdd.snapshot;
+
+import io.hhplus.tdd.config.JournalFsyncPolicy;
+import io.hhplus.tdd.config.PointJournalPolicy;
+import io.hhplus.tdd.config.PointSnapshotPolicy;
+import io.hhplus.tdd.config.UserPointStorePolicy;
+import io.hhplus.tdd.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointSnapshotterTest {
+
+    @TempDir
+    private Path directory;
+
+    private PointJournal pointJournal;
+    private PointSnapshotPolicy pointSnapshotPolicy;
+    private ConcurrentUserPointTable userPointTable;
+
+    @BeforeEach
+    void setUp() {
+        pointJournal = new PointJournal(new PointJournalPolicy(true, directory.resolve("point-journal.dat"), JournalFsyncPolicy.NONE, Duration.ofMillis(10), DataSize.ofKilobytes(64)));
+        pointSnapshotPolicy = new PointSnapshotPolicy(true, directory.resolve("point-snapshot.dat"), Duration.ofMinutes(5));
+        userPointTable = new ConcurrentUserPointTable(new UserPointStorePolicy(UserPointStorePolicy.StoreType.CONCURRENT, 4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointJournal.close();
+    }
+
+    private Map<Long, long[]> read() throws IOException {
+        Map<Long, long[]> balances = new HashMap<>();
+        PointSnapshotFile.read(pointSnapshotPolicy.path(), (userId, point, updateMillis) -> balances.put(userId, new long[]{point, updateMillis}));
+        return balances;
+    }
+
+    @Test
+    void 스냅샷은_저장소의_유저별_포인트와_변경_시각을_현재_저널_순번과_함께_기록한다() throws IOException {
+        // given
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(pointSnapshotPolicy, pointJournal, userPointTable);
+        userPointTable.restore(1L, 100L, 10L);
+        pointJournal.append(1L, 100L, TransactionType.CHARGE, 100L, 10L);
+        userPointTable.restore(2L, 300L, 11L);
+        pointJournal.append(2L, 300L, TransactionType.CHARGE, 300L, 11L);
+        userPointTable.restore(1L, 60L, 12L);
+        pointJournal.append(1L, 40L, TransactionType.USE, 60L, 12L);
+
+        // when
+        long journalSequence = pointSnapshotter.snapshot();
+
+        // then
+        assertThat(journalSequence).isEqualTo(3L);
+        Map<Long, long[]> balances = read();
+        assertThat(balances).hasSize(2);
+        assertThat(balances.get(1L)).containsExactly(60L, 12L);
+        assertThat(balances.get(2L)).containsExactly(300L, 11L);
+    }
+
+    @Test
+    void 저널을_사용하지_않으면_스냅샷도_사용하지_않는다() {
+        // given
+        PointJournal disabledJournal = new PointJournal(new PointJournalPolicy(false, directory.resolve("disabled.dat"), JournalFsyncPolicy.NONE, Duration.ofMillis(10), DataSize.ofKilobytes(64)));
+
+        // when
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(pointSnapshotPolicy, disabledJournal, userPointTable);
+
+        // then
+        assertThat(pointSnapshotter.isEnabled()).isFalse();
+    }
+
+    @Test
+    void concurrent_유저_포인트_저장소가_아니면_스냅샷을_사용하지_않는다() {
+        // when
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(pointSnapshotPolicy, pointJournal, new UserPointTable());
+
+        // then
+        assertThat(pointSnapshotter.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    void 추가한_값은_포함되고_추가하지_않은_값은_포함되지_않는다() {
+        // given
+        LongHashSet longHashSet = new LongHashSet(16);
+
+        // when
+        longHashSet.add(1L);
+        longHashSet.add(Long.MAX_VALUE);
+
+        // then
+        assertThat(longHashSet.contains(1L)).isTrue();
+        assertThat(longHashSet.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(longHashSet.contains(2L)).isFalse();
+    }
+
+    @Test
+    void 이미_있는_값을_추가하면_false를_반환하고_크기가_변하지_않는다() {
+        // given
+        LongHashSet longHashSet = new LongHashSet(16);
+        longHashSet.add(1L);
+
+        // when
+        boolean added = longHashSet.add(1L);
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(longHashSet.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 빈_슬롯_표시로_쓰는_0도_저장할_수_있다() {
+        // given
+        LongHashSet longHashSet = new LongHashSet(16);
+
+        // when
+        longHashSet.add(0L);
+
+        // then
+        assertThat(longHashSet.contains(0L)).isTrue();
+        assertThat(longHashSet.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 초기_크기보다_많은_값을_추가해도_모든_값을_조회할_수_있다() {
+        // given
+        LongHashSet longHashSet = new LongHashSet(16);
+        int count = 100_000;
+
+        // when
+        for (long value = 1; value <= count; value++) {
+            longHashSet.add(value);
+        }
+
+        // then
+        Set<Long> values = new HashSet<>();
+        longHashSet.forEach(values::add);
+
+        assertThat(longHashSet.size()).isEqualTo(count);
+        assertThat(values).hasSize(count);
+        assertThat(longHashSet.contains(count)).isTrue();
+        assertThat(longHashSet.contains(count + 1L)).isFalse();
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.user;
+
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRegistryTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(new PointHistoryTable());
+
+    private final UserRegistry userRegistry = new UserRegistry(pointHistoryIndex);
+
+    @Test
+    void 등록한_유저는_조회되고_등록하지_않은_유저는_조회되지_않는다() {
+        // given
+        long userId = 1L;
+
+        // when
+        boolean registered = userRegistry.register(userId);
+
+        // then
+        assertThat(registered).isTrue();
+        assertThat(userRegistry.contains(userId)).isTrue();
+        assertThat(userRegistry.contains(2L)).isFalse();
+    }
+
+    @Test
+    void 이미_등록된_유저를_다시_등록하면_false를_반환한다() {
+        // given
+        long userId = 1L;
+        userRegistry.register(userId);
+
+        // when
+        boolean registered = userRegistry.register(userId);
+
+        // then
+        assertThat(registered).isFalse();
+        assertThat(userRegistry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 워밍업하면_히스토리가_있는_유저가_모두_등록된다() {
+        // given
+        pointHistoryIndex.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryIndex.insert(2L, 100L, TransactionType.CHARGE, 2L);
+
+        // when
+        userRegistry.warmUp();
+
+        // then
+        assertThat(userRegistry.contains(1L)).isTrue();
+        assertThat(userRegistry.contains(2L)).isTrue();
+        assertThat(userRegistry.size()).isEqualTo(2);
+    }
+}